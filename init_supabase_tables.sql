@@ -1,5 +1,6 @@
 -- Supabase PostgreSQL 테이블 초기화 스크립트
 -- Supabase Dashboard → SQL Editor에서 실행하세요
+-- 참고: 애플리케이션 스키마는 Flyway 마이그레이션(src/main/resources/db/migration)으로 관리됩니다.
 
 -- 1. users 테이블
 CREATE TABLE IF NOT EXISTS users (
@@ -0,0 +1,163 @@
+package floorida.example.floorida.repository;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import floorida.example.floorida.entity.FloorPlan;
+import floorida.example.floorida.entity.Schedule;
+
+/**
+ * 일정 하나의 Floor 저장 시간: 행마다 INSERT + 키 조회(IDENTITY 엔티티 저장 방식) / JDBC 배치 INSERT 비교.
+ *
+ * H2 인메모리에는 네트워크 왕복이 없으므로, roundTripMillis 만큼 문장 실행(execute*)마다 지연을 넣어
+ * 원격 DB를 흉내 냅니다. (0이면 순수 드라이버/CPU 비용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FloorInsertBenchmark {
+
+    private static final String INSERT_SQL =
+            "insert into floors (schedule_id, creator_user_id, title, scheduled_date, created_at) values (?, ?, ?, ?, ?)";
+
+    @Param({"30", "365", "1000"})
+    public int floors;
+
+    @Param({"0", "1"})
+    public int roundTripMillis;
+
+    private DataSource dataSource;
+    private Connection keepAlive;
+    private FloorPlanBulkRepositoryImpl bulkRepository;
+    private Schedule schedule;
+
+    @Setup
+    public void setUp() throws SQLException {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:floor-insert;DB_CLOSE_DELAY=-1");
+        keepAlive = h2.getConnection();
+        dataSource = withRoundTrip(h2, roundTripMillis);
+        try (Statement st = keepAlive.createStatement()) {
+            st.execute("create table if not exists floors (floor_id bigint generated by default as identity primary key, "
+                    + "schedule_id bigint, creator_user_id bigint not null, title varchar(255) not null, "
+                    + "scheduled_date date, created_at timestamp(6) with time zone not null)");
+        }
+        bulkRepository = new FloorPlanBulkRepositoryImpl(new JdbcTemplate(dataSource));
+        schedule = new Schedule();
+        schedule.setScheduleId(1L);
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement st = keepAlive.createStatement()) {
+            st.execute("truncate table floors");
+        }
+    }
+
+    @TearDown
+    public void close() throws SQLException {
+        keepAlive.close();
+    }
+
+    @Benchmark
+    public long rowByRow() throws SQLException {
+        long last = 0;
+        Timestamp now = Timestamp.from(Instant.now());
+        try (Connection con = dataSource.getConnection();
+             PreparedStatement ps = con.prepareStatement(INSERT_SQL, new String[] {"floor_id"})) {
+            for (FloorPlan floor : newFloors()) {
+                ps.setLong(1, schedule.getScheduleId());
+                ps.setLong(2, floor.getCreatorUserId());
+                ps.setString(3, floor.getTitle());
+                ps.setObject(4, floor.getScheduledDate());
+                ps.setTimestamp(5, now);
+                ps.executeUpdate();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    keys.next();
+                    last = keys.getLong(1);
+                }
+            }
+        }
+        return last;
+    }
+
+    @Benchmark
+    public long batched() {
+        List<FloorPlan> list = newFloors();
+        bulkRepository.insertAll(list);
+        return list.get(list.size() - 1).getFloorId();
+    }
+
+    /** 문장 실행마다 지연을 넣는 DataSource (Connection/PreparedStatement 프록시) */
+    private static DataSource withRoundTrip(JdbcDataSource target, int millis) {
+        if (millis == 0) return target;
+        return new DelegatingDataSource(target) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                Connection con = target.getConnection();
+                return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                        new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                            Object result = invoke(con, method, args);
+                            if (result instanceof PreparedStatement ps) {
+                                return Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                                        new Class<?>[] {PreparedStatement.class}, (p, m, a) -> {
+                                            if (m.getName().startsWith("execute")) Thread.sleep(millis);
+                                            return invoke(ps, m, a);
+                                        });
+                            }
+                            return result;
+                        });
+            }
+        };
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private List<FloorPlan> newFloors() {
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        List<FloorPlan> list = new ArrayList<>(floors);
+        for (int i = 0; i < floors; i++) {
+            FloorPlan floor = new FloorPlan();
+            floor.setSchedule(schedule);
+            floor.setCreatorUserId(1L);
+            floor.setTitle("벤치마크 단계 " + (i + 1));
+            floor.setScheduledDate(start.plusDays(i));
+            list.add(floor);
+        }
+        return list;
+    }
+}
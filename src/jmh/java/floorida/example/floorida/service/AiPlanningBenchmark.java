@@ -0,0 +1,77 @@
+package floorida.example.floorida.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import floorida.example.floorida.config.OpenAiProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * LLM 응답 처리 비용: 코드 펜스 제거, floors JSON 파싱(기간 필터 포함), 키가 없을 때의 기본 계획 생성.
+ * LLM 호출 자체(네트워크)는 제외합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AiPlanningBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    @Param({"30", "365"})
+    public int days;
+
+    private AiPlanningService aiPlanningService;
+    private LocalDate end;
+    private String plain;
+    private String fenced;
+
+    @Setup
+    public void setUp() {
+        // 키 없음: HTTP 클라이언트/감시 스케줄러/계획 캐시는 쓰이지 않음
+        aiPlanningService = new AiPlanningService("", new OpenAiProperties(), null, null, null, new SimpleMeterRegistry());
+        end = START.plusDays(days - 1);
+        StringBuilder json = new StringBuilder("{\"floors\": [");
+        for (int i = 0; i < days; i++) {
+            if (i > 0) {
+                json.append(", ");
+            }
+            json.append("\n  {\"title\": \"토익 900점 달성 - 단계 ").append(i + 1)
+                    .append(": 파트 5 문법 문제 30개 풀고 오답 정리\", \"date\": \"")
+                    .append(START.plusDays(i)).append("\"}");
+        }
+        plain = json.append("\n]}").toString();
+        fenced = "```json\n" + plain + "\n```\n";
+    }
+
+    @Benchmark
+    public String stripCodeFence() {
+        return AiPlanningService.stripCodeFence(fenced);
+    }
+
+    @Benchmark
+    public List<AiPlanningService.AiFloor> parseFloors() throws JsonProcessingException {
+        return aiPlanningService.parseFloors(plain, START, end);
+    }
+
+    @Benchmark
+    public List<AiPlanningService.AiFloor> parseFencedFloors() throws JsonProcessingException {
+        return aiPlanningService.parseFloors(fenced, START, end);
+    }
+
+    @Benchmark
+    public List<AiPlanningService.AiFloor> fallbackPlan() {
+        return aiPlanningService.fallbackPlan("토익 900점 달성", START, end).toList();
+    }
+}
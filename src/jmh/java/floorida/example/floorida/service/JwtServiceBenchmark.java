@@ -0,0 +1,58 @@
+package floorida.example.floorida.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import floorida.example.floorida.config.JwtProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 토큰 발급(로그인) 비용과, 같은 토큰을 반복 검증할 때 캐시 미사용(cold) / 캐시 사용(cached) 비교.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+
+    private JwtService uncached;
+    private JwtService cached;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncached = new JwtService(props(0), new SimpleMeterRegistry());
+        cached = new JwtService(props(10_000), new SimpleMeterRegistry());
+        token = cached.generateToken("bench@floorida.site");
+        cached.extractSubject(token); // 캐시 예열
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return uncached.generateToken("bench@floorida.site");
+    }
+
+    @Benchmark
+    public String extractSubjectCold() {
+        return uncached.extractSubject(token);
+    }
+
+    @Benchmark
+    public String extractSubjectCached() {
+        return cached.extractSubject(token);
+    }
+
+    private static JwtProperties props(long cacheMaxSize) {
+        JwtProperties props = new JwtProperties();
+        props.setSecret("benchmark_jwt_secret_key");
+        props.setExpiration(3_600_000);
+        props.setCacheMaxSize(cacheMaxSize);
+        return props;
+    }
+}
@@ -0,0 +1,109 @@
+package floorida.example.floorida.service;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import floorida.example.floorida.config.jwt.AuthenticatedUser;
+import floorida.example.floorida.dto.ScheduleResponse;
+import floorida.example.floorida.entity.FloorPlan;
+import floorida.example.floorida.entity.Schedule;
+import floorida.example.floorida.repository.ScheduleRepository;
+
+/**
+ * 일정 상세 응답 비용: getById의 엔티티 → ScheduleResponse 변환과 Jackson 직렬화.
+ * 리포지토리와 현재 사용자는 메모리 스텁이라 DB 없이 변환 비용만 잽니다.
+ * Floor 절반이 완료된 사용자 기준이며, ObjectMapper는 Spring MVC 기본 설정(Jackson2ObjectMapperBuilder)과 같습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScheduleMappingBenchmark {
+
+    private static final long USER_ID = 1L;
+
+    @Param({"30", "365", "3000"})
+    public int floors;
+
+    private ScheduleService scheduleService;
+    private ObjectMapper objectMapper;
+    private Schedule schedule;
+    private ScheduleResponse response;
+
+    @Setup
+    public void setUp() {
+        // 변환은 완료 인덱스만 사용 (인덱스는 미리 채워 DB 조회 없음)
+        FloorCompletionIndex completionIndex = new FloorCompletionIndex(null, 16);
+        AuthenticatedUser principal = new AuthenticatedUser(USER_ID, "bench@floorida.site", "bench");
+        CurrentUserService currentUser = new CurrentUserService(null, null) {
+            @Override
+            public Optional<AuthenticatedUser> getCurrentPrincipal() {
+                return Optional.of(principal);
+            }
+        };
+        // 일정 조회 메서드만 응답하는 리포지토리 스텁
+        ScheduleRepository scheduleRepository = (ScheduleRepository) Proxy.newProxyInstance(
+                ScheduleRepository.class.getClassLoader(), new Class<?>[] {ScheduleRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findById", "findByScheduleIdAndCreatorUserId" -> Optional.of(schedule);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        scheduleService = new ScheduleService(scheduleRepository, currentUser, null, completionIndex,
+                null, null, null, null, 3660, 500);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        schedule = new Schedule();
+        schedule.setScheduleId(1L);
+        schedule.setCreatorUserId(USER_ID);
+        schedule.setTitle("토익 900점 달성");
+        schedule.setOriginalGoal("토익 900점 달성하기");
+        schedule.setGoalSummary("목표: 토익 900점 달성 | 기간: " + start + "~" + start.plusDays(floors - 1));
+        schedule.setStartDate(start);
+        schedule.setEndDate(start.plusDays(floors - 1));
+        schedule.setColor("#FF6B6B");
+        FloorCompletionIndex.UserCompletions completions = new FloorCompletionIndex.UserCompletions();
+        for (int i = 0; i < floors; i++) {
+            FloorPlan floor = new FloorPlan();
+            floor.setFloorId((long) i + 1);
+            floor.setTitle("토익 900점 달성 - 단계 " + (i + 1));
+            floor.setScheduledDate(start.plusDays(i));
+            schedule.addFloor(floor);
+            if (i % 2 == 0) {
+                completions.add(floor.getFloorId(), schedule.getScheduleId());
+            }
+        }
+        completionIndex.getCache().put(USER_ID, completions);
+        response = scheduleService.getById(schedule.getScheduleId());
+    }
+
+    @Benchmark
+    public ScheduleResponse getById() {
+        return scheduleService.getById(schedule.getScheduleId());
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    /** 요청 한 건에서 실제로 일어나는 변환 + 직렬화 */
+    @Benchmark
+    public byte[] getByIdAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(scheduleService.getById(schedule.getScheduleId()));
+    }
+}
@@ -0,0 +1,372 @@
+package floorida.example.floorida.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import floorida.example.floorida.entity.User;
+import floorida.example.floorida.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 외부 의존성 없이 앱 전체를 두드리는 종단 간 부하 테스트.
+ *
+ * test 프로필의 H2(PostgreSQL 모드) + Flyway 스키마와 로컬 LLM 스텁(StubLlm)으로 앱을 실제 포트에 띄우고,
+ * 클라이언트마다 사용자 한 명으로 로그인한 뒤 아래 비율로 요청을 섞어 보냅니다. (think time 없음)
+ *
+ * - GET  /api/floors/today            오늘 목록 (응답의 미완료 Floor를 완료 대상으로 기억)
+ * - POST /api/floors/{id}/complete    기억한 Floor 완료
+ * - GET  /api/schedules               일정 목록
+ * - POST /api/schedules               오늘부터 시작하는 수동 일정 생성
+ * - POST /api/schedules/ai            AI 일정 생성 (LLM 스텁 지연 포함)
+ * - POST /api/auth/login              재로그인 (BCrypt, 429는 정상 거절로 집계)
+ *
+ * 1) 엔드포인트별로 한 클라이언트가 순서대로 호출해 요청당 쿼리 수를 재고,
+ * 2) 예열 후 clients개 동시 클라이언트로 seconds초 동안 처리량/지연 백분위/전체 요청당 쿼리 수를 잽니다.
+ * 결과는 콘솔과 build/reports/loadtest/end-to-end.json 에 남습니다.
+ *
+ * 조절: -Dloadtest.clients=32 -Dloadtest.seconds=20 -Dloadtest.llm-delay-ms=300
+ *       -Dloadtest.mix=today:50,complete:20,list:15,create:5,ai:5,login:5
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "OPENAI_API_KEY=load-test-key",
+        "floorida.ai.plan-cache.enabled=false"
+})
+@ActiveProfiles("test")
+class EndToEndLoadTest {
+
+    private static final String PASSWORD = "load-test-password";
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final int PLAN_DAYS = 7;
+    private static final int PROFILE_CALLS = 20;
+    private static final Duration WARM_UP = Duration.ofSeconds(3);
+
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 32);
+    private static final int SECONDS = Integer.getInteger("loadtest.seconds", 20);
+    private static final Duration LLM_DELAY = Duration.ofMillis(Integer.getInteger("loadtest.llm-delay-ms", 300));
+    private static final Map<Op, Integer> MIX = parseMix(
+            System.getProperty("loadtest.mix", "today:50,complete:20,list:15,create:5,ai:5,login:5"));
+
+    static final StubLlm STUB_LLM = new StubLlm(LLM_DELAY, TODAY, PLAN_DAYS);
+
+    @DynamicPropertySource
+    static void llmProperties(DynamicPropertyRegistry registry) {
+        registry.add("openai.api.base-url", STUB_LLM::baseUrl);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB_LLM.close();
+    }
+
+    /** 요청 종류 (콘솔/리포트 이름, 정상으로 보는 상태 코드) */
+    enum Op {
+        TODAY("GET /api/floors/today", 200),
+        COMPLETE("POST /api/floors/{id}/complete", 200),
+        LIST("GET /api/schedules", 200),
+        CREATE("POST /api/schedules", 200),
+        AI("POST /api/schedules/ai", 200),
+        LOGIN("POST /api/auth/login", 200, 429);
+
+        final String endpoint;
+        final int[] expected;
+
+        Op(String endpoint, int... expected) {
+            this.endpoint = endpoint;
+            this.expected = expected;
+        }
+
+        boolean ok(int status) {
+            for (int s : expected) {
+                if (s == status) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // 해시 실행기가 가득 차 429로 거절된 로그인 수
+    private final AtomicLong rejectedLogins = new AtomicLong();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    void mixedTrafficThroughPublicApi() throws Exception {
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        List<Client> clients = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            Client c = new Client(user(passwordHash));
+            c.login();
+            c.call(Op.CREATE);
+            c.call(Op.TODAY);
+            clients.add(c);
+        }
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, Double> statementsByEndpoint = profile(clients.get(0), stats);
+
+        runFor(WARM_UP, clients, new LatencyRecorder());
+
+        long statementsBefore = stats.getPrepareStatementCount();
+        long llmCallsBefore = STUB_LLM.calls();
+        rejectedLogins.set(0);
+        LatencyRecorder recorder = new LatencyRecorder();
+        runFor(Duration.ofSeconds(SECONDS), clients, recorder);
+        long statements = stats.getPrepareStatementCount() - statementsBefore;
+
+        Map<String, LatencyRecorder.Summary> summary = recorder.summarize(SECONDS);
+        long requests = summary.values().stream().mapToLong(LatencyRecorder.Summary::count).sum();
+        long errors = summary.values().stream().mapToLong(LatencyRecorder.Summary::errors).sum();
+        double statementsPerRequest = (double) statements / Math.max(1, requests);
+
+        System.out.printf("[e2e] clients=%d duration=%ds mix=%s%n", CLIENTS, SECONDS, MIX);
+        System.out.printf("[e2e] total %.1f req/s, %.2f statements/req, %d LLM calls, %d logins rejected (429)%n",
+                (double) requests / SECONDS, statementsPerRequest, STUB_LLM.calls() - llmCallsBefore, rejectedLogins.get());
+        summary.forEach((endpoint, s) -> System.out.printf("[e2e]   %-32s %s  (%.1f statements/req sequential)%n",
+                endpoint, s, statementsByEndpoint.getOrDefault(endpoint, Double.NaN)));
+
+        writeReport(summary, requests, statementsPerRequest, statementsByEndpoint);
+
+        assertEquals(0, errors);
+        assertTrue(summary.get(Op.COMPLETE.endpoint).count() > 0);
+    }
+
+    /** 엔드포인트마다 한 클라이언트가 순서대로 호출해 요청당 쿼리 수를 잰다 (동시 요청이 섞이지 않게) */
+    private Map<String, Double> profile(Client c, Statistics stats) throws Exception {
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (Op op : Op.values()) {
+            if (op == Op.COMPLETE) {
+                // 완료할 Floor를 충분히 만들어 둔다
+                while (c.pending.size() < PROFILE_CALLS) {
+                    c.call(Op.CREATE);
+                    c.call(Op.TODAY);
+                }
+            }
+            long before = stats.getPrepareStatementCount();
+            for (int i = 0; i < PROFILE_CALLS; i++) {
+                c.call(op);
+            }
+            result.put(op.endpoint, (double) (stats.getPrepareStatementCount() - before) / PROFILE_CALLS);
+        }
+        return result;
+    }
+
+    private void runFor(Duration duration, List<Client> clients, LatencyRecorder recorder) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService pool = Executors.newFixedThreadPool(clients.size());
+        for (Client c : clients) {
+            pool.execute(() -> {
+                while (running.get()) {
+                    Op op = c.next();
+                    long startedAt = System.nanoTime();
+                    boolean ok;
+                    try {
+                        ok = op.ok(c.call(op));
+                    } catch (Exception e) {
+                        ok = false;
+                    }
+                    if (running.get()) {
+                        recorder.record(op.endpoint, System.nanoTime() - startedAt, ok);
+                    }
+                }
+            });
+        }
+        Thread.sleep(duration.toMillis());
+        running.set(false);
+        pool.shutdown();
+        pool.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private void writeReport(Map<String, LatencyRecorder.Summary> summary, long requests,
+                             double statementsPerRequest, Map<String, Double> statementsByEndpoint) throws Exception {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("clients", CLIENTS);
+        report.put("seconds", SECONDS);
+        report.put("mix", MIX);
+        report.put("throughput", (double) requests / SECONDS);
+        report.put("statementsPerRequest", statementsPerRequest);
+        report.put("statementsPerRequestSequential", statementsByEndpoint);
+        report.put("rejectedLogins", rejectedLogins.get());
+        report.put("endpoints", summary);
+        Path file = Path.of("build", "reports", "loadtest", "end-to-end.json");
+        Files.createDirectories(file.getParent());
+        objectMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+        System.out.println("[e2e] report: " + file.toAbsolutePath());
+    }
+
+    /** 가상 사용자 한 명: 토큰과 아직 완료하지 않은 오늘의 Floor 목록을 들고 다닌다 */
+    private final class Client {
+        private final User user;
+        private final Deque<Long> pending = new ArrayDeque<>();
+        private final AtomicInteger created = new AtomicInteger();
+        private String bearer;
+
+        Client(User user) {
+            this.user = user;
+        }
+
+        Op next() {
+            int total = MIX.values().stream().mapToInt(Integer::intValue).sum();
+            int r = ThreadLocalRandom.current().nextInt(total);
+            for (Map.Entry<Op, Integer> e : MIX.entrySet()) {
+                r -= e.getValue();
+                if (r < 0) {
+                    // 완료할 Floor가 없으면 오늘 목록부터 다시 본다
+                    return e.getKey() == Op.COMPLETE && pending.isEmpty() ? Op.TODAY : e.getKey();
+                }
+            }
+            return Op.TODAY;
+        }
+
+        int call(Op op) throws Exception {
+            return switch (op) {
+                case TODAY -> today();
+                case COMPLETE -> complete();
+                case LIST -> send(authorized("/api/schedules?size=20").GET()).statusCode();
+                case CREATE -> send(authorized("/api/schedules").POST(json(manualSchedule()))).statusCode();
+                case AI -> send(authorized("/api/schedules/ai").POST(json(aiSchedule()))).statusCode();
+                case LOGIN -> login();
+            };
+        }
+
+        int login() throws Exception {
+            String body = "{\"email\":\"" + user.getEmail() + "\",\"password\":\"" + PASSWORD + "\"}";
+            HttpResponse<String> res = send(request("/api/auth/login").POST(json(body)));
+            if (res.statusCode() == 200) {
+                bearer = "Bearer " + objectMapper.readTree(res.body()).get("accessToken").asText();
+            } else if (res.statusCode() == 429) {
+                rejectedLogins.incrementAndGet();
+            }
+            return res.statusCode();
+        }
+
+        private int today() throws Exception {
+            HttpResponse<String> res = send(authorized("/api/floors/today").GET());
+            if (res.statusCode() == 200) {
+                pending.clear();
+                for (JsonNode floor : objectMapper.readTree(res.body())) {
+                    if (!floor.path("completed").asBoolean()) {
+                        pending.add(floor.get("floorId").asLong());
+                    }
+                }
+            }
+            return res.statusCode();
+        }
+
+        private int complete() throws Exception {
+            Long floorId = pending.poll();
+            if (floorId == null) {
+                return today();
+            }
+            return send(authorized("/api/floors/" + floorId + "/complete").POST(HttpRequest.BodyPublishers.noBody()))
+                    .statusCode();
+        }
+
+        private String manualSchedule() {
+            int n = created.incrementAndGet();
+            StringBuilder floors = new StringBuilder();
+            for (int d = 0; d < PLAN_DAYS; d++) {
+                floors.append(d == 0 ? "" : ",")
+                        .append("{\"title\":\"단계 ").append(d + 1).append("\",\"scheduledDate\":\"")
+                        .append(TODAY.plusDays(d)).append("\"}");
+            }
+            return """
+                    {"title": "부하 테스트 일정 %d", "startDate": "%s", "endDate": "%s", "floors": [%s]}
+                    """.formatted(n, TODAY, TODAY.plusDays(PLAN_DAYS - 1), floors);
+        }
+
+        private String aiSchedule() {
+            return """
+                    {"goal": "부하 테스트 목표", "startDate": "%s", "endDate": "%s"}
+                    """.formatted(TODAY, TODAY.plusDays(PLAN_DAYS - 1));
+        }
+
+        private HttpRequest.Builder authorized(String path) {
+            return request(path).header(HttpHeaders.AUTHORIZATION, bearer);
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header(HttpHeaders.CONTENT_TYPE, "application/json");
+    }
+
+    private static HttpRequest.BodyPublisher json(String body) {
+        return HttpRequest.BodyPublishers.ofString(body);
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private User user(String passwordHash) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setEmail("e2e-" + suffix + "@floorida.site");
+        user.setUsername("e2e-" + suffix);
+        user.setPasswordHash(passwordHash);
+        return userRepository.save(user);
+    }
+
+    private static Map<Op, Integer> parseMix(String spec) {
+        Map<Op, Integer> mix = new EnumMap<>(Op.class);
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split(":");
+            mix.put(Op.valueOf(kv[0].trim().toUpperCase()), Integer.parseInt(kv[1].trim()));
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,188 @@
+package floorida.example.floorida.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import floorida.example.floorida.entity.User;
+import floorida.example.floorida.repository.UserRepository;
+import floorida.example.floorida.service.JwtService;
+import floorida.example.floorida.service.UserProfileService;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 요청 처리 모드 비교용 부하 테스트.
+ *
+ * 느린 LLM 스텁(300ms)을 동기로 기다리는 POST /api/schedules/ai 와
+ * 가벼운 GET /api/floors/today 를 섞어 clients개의 동시 클라이언트로 실제 포트에 보내고,
+ * 엔드포인트별 처리량과 p50/p95/p99 지연, 요청당 쿼리 수를 출력합니다.
+ * Tomcat 작업 스레드는 server.tomcat.threads.max=64 로 줄여 테스트 규모에서도 포화가 보이게 합니다.
+ *
+ * 조절: -Dloadtest.clients=256 -Dloadtest.seconds=10 -Dloadtest.ai-every=5
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "OPENAI_API_KEY=load-test-key",
+        "floorida.ai.plan-cache.enabled=false",
+        "server.tomcat.threads.max=64"
+})
+@ActiveProfiles("test")
+abstract class ExecutionModeLoadTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 11, 1);
+    private static final int PLAN_DAYS = 7;
+    private static final int USERS = 32;
+    private static final Duration LLM_DELAY = Duration.ofMillis(300);
+    private static final Duration WARM_UP = Duration.ofSeconds(2);
+
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 256);
+    private static final int SECONDS = Integer.getInteger("loadtest.seconds", 10);
+    private static final int AI_EVERY = Integer.getInteger("loadtest.ai-every", 5);
+
+    static final StubLlm STUB_LLM = new StubLlm(LLM_DELAY, START, PLAN_DAYS);
+
+    @DynamicPropertySource
+    static void llmProperties(DynamicPropertyRegistry registry) {
+        registry.add("openai.api.base-url", STUB_LLM::baseUrl);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB_LLM.close();
+    }
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private UserProfileService userProfileService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    /** 결과 출력에 쓰는 모드 이름 */
+    abstract String mode();
+
+    @Test
+    void mixedBlockingWorkload() throws Exception {
+        List<String> bearers = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            bearers.add(user());
+        }
+        // 인증 사용자 캐시, 오늘 목록 캐시 적재
+        for (String bearer : bearers) {
+            send(today(bearer));
+        }
+
+        runFor(WARM_UP, bearers, new LatencyRecorder());
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long statementsBefore = stats.getPrepareStatementCount();
+        LatencyRecorder recorder = new LatencyRecorder();
+        runFor(Duration.ofSeconds(SECONDS), bearers, recorder);
+        long statements = stats.getPrepareStatementCount() - statementsBefore;
+
+        Map<String, LatencyRecorder.Summary> summary = recorder.summarize(SECONDS);
+        long requests = summary.values().stream().mapToLong(LatencyRecorder.Summary::count).sum();
+        long errors = summary.values().stream().mapToLong(LatencyRecorder.Summary::errors).sum();
+        System.out.printf("[%s threads] clients=%d duration=%ds total=%.1f req/s, %.2f statements/req%n",
+                mode(), CLIENTS, SECONDS, (double) requests / SECONDS, (double) statements / Math.max(1, requests));
+        summary.forEach((endpoint, s) -> System.out.printf("[%s threads]   %-24s %s%n", mode(), endpoint, s));
+
+        assertEquals(0, errors);
+    }
+
+    private void runFor(Duration duration, List<String> bearers, LatencyRecorder recorder) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        for (int c = 0; c < CLIENTS; c++) {
+            String bearer = bearers.get(c % bearers.size());
+            int offset = c;
+            clients.execute(() -> {
+                for (long i = offset; running.get(); i++) {
+                    boolean ai = i % AI_EVERY == 0;
+                    HttpRequest request = ai ? aiSchedule(bearer) : today(bearer);
+                    long startedAt = System.nanoTime();
+                    boolean ok;
+                    try {
+                        ok = send(request) == 200;
+                    } catch (Exception e) {
+                        ok = false;
+                    }
+                    if (running.get()) {
+                        recorder.record(ai ? "POST /api/schedules/ai" : "GET /api/floors/today",
+                                System.nanoTime() - startedAt, ok);
+                    }
+                }
+            });
+        }
+        Thread.sleep(duration.toMillis());
+        running.set(false);
+        clients.shutdown();
+        clients.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private int send(HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest today(String bearer) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/floors/today"))
+                .header(HttpHeaders.AUTHORIZATION, bearer)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest aiSchedule(String bearer) {
+        String body = """
+                {"goal": "부하 테스트 목표", "startDate": "%s", "endDate": "%s"}
+                """.formatted(START, START.plusDays(PLAN_DAYS - 1));
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/schedules/ai"))
+                .header(HttpHeaders.AUTHORIZATION, bearer)
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private String user() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setEmail("load-" + suffix + "@floorida.site");
+        user.setUsername("load-" + suffix);
+        user.setPasswordHash("x");
+        user = userRepository.save(user);
+        userProfileService.ensureSignupBonusOnFirstLogin(user);
+        return "Bearer " + jwtService.generateToken(user.getEmail());
+    }
+}
@@ -0,0 +1,67 @@
+package floorida.example.floorida.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트 중 엔드포인트별 응답 시간(마이크로초)과 실패 수를 모읍니다.
+ * 요청 수가 수십만 건 이내라는 가정으로 모든 샘플을 보관하고, 요약할 때 정렬해 백분위를 계산합니다.
+ */
+public final class LatencyRecorder {
+
+    private final Map<String, Samples> byEndpoint = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long nanos, boolean ok) {
+        byEndpoint.computeIfAbsent(endpoint, e -> new Samples()).add(nanos / 1_000, ok);
+    }
+
+    public Map<String, Summary> summarize(double seconds) {
+        Map<String, Summary> result = new TreeMap<>();
+        byEndpoint.forEach((endpoint, samples) -> result.put(endpoint, samples.summarize(seconds)));
+        return result;
+    }
+
+    /** count: 성공+실패 요청 수, 지연 시간은 밀리초 */
+    public record Summary(long count, long errors, double throughput, double p50, double p95, double p99, double max) {
+        @Override
+        public String toString() {
+            return String.format("n=%d err=%d %.1f req/s p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms",
+                    count, errors, throughput, p50, p95, p99, max);
+        }
+    }
+
+    private static final class Samples {
+        private long[] micros = new long[1024];
+        private int size;
+        private final AtomicLong errors = new AtomicLong();
+
+        synchronized void add(long value, boolean ok) {
+            if (size == micros.length) {
+                micros = Arrays.copyOf(micros, size * 2);
+            }
+            micros[size++] = value;
+            if (!ok) {
+                errors.incrementAndGet();
+            }
+        }
+
+        synchronized Summary summarize(double seconds) {
+            long[] sorted = Arrays.copyOf(micros, size);
+            Arrays.sort(sorted);
+            return new Summary(size, errors.get(), size / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    size == 0 ? 0 : sorted[size - 1] / 1000.0);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1000.0;
+        }
+    }
+}
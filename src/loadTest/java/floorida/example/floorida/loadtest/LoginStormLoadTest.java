@@ -0,0 +1,192 @@
+package floorida.example.floorida.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import floorida.example.floorida.entity.User;
+import floorida.example.floorida.repository.UserRepository;
+import floorida.example.floorida.service.JwtService;
+import floorida.example.floorida.service.UserProfileService;
+
+/**
+ * 로그인 폭주 중에도 가벼운 조회(GET /api/floors/today)의 지연이 유지되는지 확인하는 부하 테스트.
+ *
+ * 1) 조회 클라이언트만 보내는 기준 구간, 2) 같은 조회에 로그인 클라이언트를 더한 폭주 구간을 차례로 실행하고
+ * 두 구간의 조회 p50/p99와 로그인 결과(200 / 429)를 출력합니다. 429를 받은 로그인 클라이언트는 Retry-After만큼 쉽니다.
+ * BCrypt는 passwordHashingExecutor 크기만큼만 동시에 돌고 나머지는 대기열 또는 429로 빠지므로,
+ * 조회에 남는 CPU가 보장됩니다.
+ *
+ * 조절: -Dloadtest.readers=16 -Dloadtest.logins=64 -Dloadtest.seconds=10
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class LoginStormLoadTest {
+
+    private static final String PASSWORD = "load-test-password";
+    private static final int USERS = 16;
+
+    private static final int READERS = Integer.getInteger("loadtest.readers", 16);
+    private static final int LOGINS = Integer.getInteger("loadtest.logins", 64);
+    private static final int SECONDS = Integer.getInteger("loadtest.seconds", 10);
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private UserProfileService userProfileService;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    void readLatencyDuringLoginStorm() throws Exception {
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(user(passwordHash));
+        }
+        for (User user : users) {
+            send(today(bearer(user)));
+        }
+
+        LatencyRecorder baseline = new LatencyRecorder();
+        run(Duration.ofSeconds(SECONDS), users, 0, baseline, new AtomicLong(), new AtomicLong());
+
+        LatencyRecorder storm = new LatencyRecorder();
+        AtomicLong loginOk = new AtomicLong();
+        AtomicLong loginRejected = new AtomicLong();
+        run(Duration.ofSeconds(SECONDS), users, LOGINS, storm, loginOk, loginRejected);
+
+        LatencyRecorder.Summary before = baseline.summarize(SECONDS).get("GET /api/floors/today");
+        Map<String, LatencyRecorder.Summary> during = storm.summarize(SECONDS);
+        System.out.printf("[login storm] readers=%d logins=%d duration=%ds%n", READERS, LOGINS, SECONDS);
+        System.out.printf("[login storm]   baseline %-22s %s%n", "GET /api/floors/today", before);
+        during.forEach((endpoint, s) -> System.out.printf("[login storm]   storm    %-22s %s%n", endpoint, s));
+        System.out.printf("[login storm]   logins: 200=%d 429=%d%n", loginOk.get(), loginRejected.get());
+
+        assertEquals(0, during.get("GET /api/floors/today").errors());
+        assertTrue(loginOk.get() > 0);
+    }
+
+    private void run(Duration duration, List<User> users, int loginClients, LatencyRecorder recorder,
+                     AtomicLong loginOk, AtomicLong loginRejected) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService clients = Executors.newFixedThreadPool(READERS + loginClients);
+        for (int c = 0; c < READERS; c++) {
+            HttpRequest request = today(bearer(users.get(c % users.size())));
+            clients.execute(() -> {
+                while (running.get()) {
+                    long startedAt = System.nanoTime();
+                    boolean ok = sendQuietly(request) == 200;
+                    if (running.get()) {
+                        recorder.record("GET /api/floors/today", System.nanoTime() - startedAt, ok);
+                    }
+                }
+            });
+        }
+        for (int c = 0; c < loginClients; c++) {
+            HttpRequest request = login(users.get(c % users.size()));
+            clients.execute(() -> {
+                while (running.get()) {
+                    long startedAt = System.nanoTime();
+                    int status = sendQuietly(request);
+                    if (!running.get()) {
+                        break;
+                    }
+                    recorder.record("POST /api/auth/login", System.nanoTime() - startedAt, status == 200 || status == 429);
+                    if (status == 200) {
+                        loginOk.incrementAndGet();
+                    } else if (status == 429) {
+                        loginRejected.incrementAndGet();
+                        // 실제 클라이언트처럼 Retry-After(1초)만큼 쉬고 재시도
+                        sleep(Duration.ofSeconds(1));
+                    }
+                }
+            });
+        }
+        Thread.sleep(duration.toMillis());
+        running.set(false);
+        clients.shutdown();
+        clients.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int sendQuietly(HttpRequest request) {
+        try {
+            return send(request);
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private int send(HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest today(String bearer) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/floors/today"))
+                .header(HttpHeaders.AUTHORIZATION, bearer)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest login(User user) {
+        String body = "{\"email\":\"" + user.getEmail() + "\",\"password\":\"" + PASSWORD + "\"}";
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private String bearer(User user) {
+        return "Bearer " + jwtService.generateToken(user.getEmail());
+    }
+
+    private User user(String passwordHash) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setEmail("storm-" + suffix + "@floorida.site");
+        user.setUsername("storm-" + suffix);
+        user.setPasswordHash(passwordHash);
+        user = userRepository.save(user);
+        userProfileService.ensureSignupBonusOnFirstLogin(user);
+        return user;
+    }
+}
@@ -0,0 +1,13 @@
+package floorida.example.floorida.loadtest;
+
+import org.springframework.test.context.TestPropertySource;
+
+/** 기본 모드: Tomcat 플랫폼 스레드 풀 + 고정 크기 AI 실행기 */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadsLoadTest extends ExecutionModeLoadTest {
+
+    @Override
+    String mode() {
+        return "platform";
+    }
+}
@@ -0,0 +1,78 @@
+package floorida.example.floorida.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * OpenAI chat-completions 엔드포인트를 흉내 내는 로컬 스텁.
+ * 요청마다 delay만큼 기다린 뒤 start부터 하루에 하나씩 days개의 Floor 계획을 돌려줍니다.
+ * (요청을 동시에 처리하므로 지연이 직렬로 쌓이지 않음)
+ */
+public final class StubLlm implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicLong calls = new AtomicLong();
+
+    public StubLlm(Duration delay, LocalDate start, int days) {
+        byte[] body = chatCompletion(start, days).getBytes(StandardCharsets.UTF_8);
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        server.createContext("/v1/chat/completions", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            calls.incrementAndGet();
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public long calls() {
+        return calls.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private static String chatCompletion(LocalDate start, int days) {
+        ObjectMapper om = new ObjectMapper();
+        ObjectNode plan = om.createObjectNode();
+        var floors = plan.putArray("floors");
+        for (int i = 0; i < days; i++) {
+            floors.addObject().put("title", "스텁 단계 " + (i + 1)).put("date", start.plusDays(i).toString());
+        }
+        ObjectNode root = om.createObjectNode();
+        root.putArray("choices").addObject().putObject("message").put("role", "assistant").put("content", plan.toString());
+        return root.toString();
+    }
+}
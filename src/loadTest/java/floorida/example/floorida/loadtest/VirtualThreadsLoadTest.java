@@ -0,0 +1,16 @@
+package floorida.example.floorida.loadtest;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.test.context.TestPropertySource;
+
+/** 가상 스레드 모드: Java 21 런타임에서만 실행 (./gradlew -PjavaVersion=21 loadTest) */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadsLoadTest extends ExecutionModeLoadTest {
+
+    @Override
+    String mode() {
+        return "virtual";
+    }
+}
@@ -0,0 +1,50 @@
+package floorida.example.floorida.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AiPlanningConfig {
+
+    /**
+     * AI 계획 생성 전용 실행기.
+     * 큐까지 가득 차면 TaskRejectedException으로 즉시 거절합니다 (요청 스레드/DB 커넥션을 붙잡지 않음).
+     */
+    @Bean(name = "aiPlanningExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor aiPlanningExecutor(
+            @Value("${floorida.ai.executor.pool-size:4}") int poolSize,
+            @Value("${floorida.ai.executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ai-plan-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 가상 스레드 모드(spring.threads.virtual.enabled=true, Java 21+)의 AI 계획 생성 실행기.
+     * LLM 응답을 기다리는 동안 OS 스레드를 점유하지 않으므로 큐에 세우지 않고 바로 실행하되,
+     * 동시에 받는 작업 수는 플랫폼 모드와 같게(pool-size + queue-capacity) 제한하고 넘치면 즉시 거절합니다.
+     */
+    @Bean(name = "aiPlanningExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor aiPlanningVirtualExecutor(
+            @Value("${floorida.ai.executor.pool-size:4}") int poolSize,
+            @Value("${floorida.ai.executor.queue-capacity:100}") int queueCapacity) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ai-plan-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(poolSize + queueCapacity);
+        executor.setRejectTasksWhenLimitReached(true);
+        executor.setTaskTerminationTimeout(30_000);
+        return executor;
+    }
+}
@@ -17,4 +17,6 @@ import lombok.Setter;
 public class JwtProperties {
     private String secret;
     private long expiration;
+    /** 검증 완료된 토큰 캐시 최대 개수 (0이면 캐시 사용 안 함) */
+    private long cacheMaxSize = 10000;
 }
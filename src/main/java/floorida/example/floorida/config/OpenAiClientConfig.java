@@ -0,0 +1,55 @@
+package floorida.example.floorida.config;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OpenAiClientConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService openAiHttpExecutor(OpenAiProperties props) {
+        AtomicInteger seq = new AtomicInteger();
+        ThreadFactory factory = r -> {
+            Thread t = new Thread(r, "openai-http-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+        return Executors.newFixedThreadPool(props.getClientThreads(), factory);
+    }
+
+    /**
+     * 스트리밍 응답 본문 읽기 제한 시간 감시용 (요청마다 타이머 하나만 걸어 둠)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ScheduledExecutorService openAiStreamWatchdog() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "openai-stream-watchdog");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /**
+     * OpenAI 호출용 공유 HttpClient.
+     * 커넥션(TLS 세션)을 재사용하고 HTTP/2가 가능하면 하나의 연결로 다중화합니다.
+     */
+    @Bean
+    public HttpClient openAiHttpClient(OpenAiProperties props, @Qualifier("openAiHttpExecutor") ExecutorService openAiHttpExecutor) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(props.getConnectTimeout())
+                .executor(openAiHttpExecutor)
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package floorida.example.floorida.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * OpenAI 호출 설정 (prefix 'openai.api').
+ * API 키는 기존과 같이 OPENAI_API_KEY 환경변수에서 읽습니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "openai.api")
+public class OpenAiProperties {
+    private String baseUrl = "https://api.openai.com";
+    private String model = "gpt-4o-mini";
+    private Duration connectTimeout = Duration.ofSeconds(5);
+    /** 요청 전송부터 응답 수신까지의 제한 시간 */
+    private Duration readTimeout = Duration.ofSeconds(60);
+    /** 스트리밍 응답 본문에서 다음 데이터를 기다리는 최대 시간 */
+    private Duration streamIdleTimeout = Duration.ofSeconds(20);
+    /** 스트리밍 응답 본문 전체를 읽는 최대 시간 (SSE 연결 제한 시간보다 짧게) */
+    private Duration streamTotalTimeout = Duration.ofSeconds(100);
+    /** HttpClient 전용 실행기 스레드 수 */
+    private int clientThreads = 4;
+}
@@ -0,0 +1,31 @@
+package floorida.example.floorida.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class PasswordHashingConfig {
+
+    /**
+     * BCrypt 해시/검증 전용 실행기.
+     * CPU를 쓰는 작업이라 가상 스레드 모드에서도 플랫폼 스레드 고정 크기로 두고,
+     * 스레드 수는 코어 수의 절반(최소 1)으로 제한해 나머지 코어는 일반 조회가 쓰도록 합니다.
+     * 큐까지 가득 차면 TaskRejectedException으로 즉시 거절합니다 (429).
+     */
+    @Bean(name = "passwordHashingExecutor")
+    public ThreadPoolTaskExecutor passwordHashingExecutor(
+            @Value("${floorida.password.threads:0}") int threads,
+            @Value("${floorida.password.queue-capacity:16}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
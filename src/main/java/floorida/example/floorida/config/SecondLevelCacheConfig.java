@@ -0,0 +1,80 @@
+package floorida.example.floorida.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+
+/**
+ * Hibernate 2차 캐시 (Schedule, FloorPlan, Schedule.floors).
+ *
+ * JCache API 위에 Caffeine 구현을 쓰며, 리전마다 최대 항목 수와 TTL을 둬 힙 사용량을 제한합니다.
+ * 설정에 없는 리전은 만들지 않고 시작을 실패시켜(missing_cache_strategy=fail) 무제한 캐시가 생기지 않게 합니다.
+ * 동시성 전략은 READ_WRITE(엔티티 @Cache)라 커밋 전까지 다른 트랜잭션은 DB를 읽고, 커밋 후 캐시가 갱신됩니다.
+ *
+ * 통계: 리전별 hit/miss/put은 Hibernate 통계(hibernate.second.level.cache.*),
+ * 크기 제한/TTL에 의한 제거 수는 JCache 통계(cache.evictions{cache=리전})로 노출됩니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "floorida.l2-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    public static final String SCHEDULE_REGION = "schedule";
+    public static final String FLOOR_REGION = "floor";
+    public static final String SCHEDULE_FLOORS_REGION = "schedule.floors";
+
+    /**
+     * 컨텍스트마다 별도 URI의 CacheManager를 만든다. (같은 URI면 프로바이더가 인스턴스를 공유해
+     * 테스트처럼 컨텍스트가 여러 개일 때 리전이 겹치거나 먼저 닫힌 쪽이 다른 쪽 캐시를 닫음)
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${floorida.l2-cache.schedule.max-entries:10000}") long scheduleMaxEntries,
+            @Value("${floorida.l2-cache.floor.max-entries:200000}") long floorMaxEntries,
+            @Value("${floorida.l2-cache.schedule-floors.max-entries:10000}") long scheduleFloorsMaxEntries,
+            @Value("${floorida.l2-cache.ttl:PT1H}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("floorida-hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+        Map<String, Long> regions = Map.of(
+                SCHEDULE_REGION, scheduleMaxEntries,
+                FLOOR_REGION, floorMaxEntries,
+                SCHEDULE_FLOORS_REGION, scheduleFloorsMaxEntries);
+        regions.forEach((region, maxEntries) -> {
+            CaffeineConfiguration<Object, Object> config = new CaffeineConfiguration<>();
+            config.setMaximumSize(OptionalLong.of(maxEntries));
+            // DB를 직접 고친 경우(운영 콘솔 등)에도 ttl 안에는 캐시가 DB를 따라가도록
+            config.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            config.setStatisticsEnabled(true);
+            JCacheMetrics.monitor(meterRegistry, cacheManager.createCache(region, config), Tags.of("cache.type", "hibernate"));
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put("hibernate.cache.use_second_level_cache", true);
+            properties.put("hibernate.cache.region.factory_class", "jcache");
+            properties.put("hibernate.javax.cache.cache_manager", hibernateCacheManager);
+            properties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package floorida.example.floorida.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -17,6 +18,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import java.util.List;
 
 import floorida.example.floorida.config.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 
 @Configuration
 public class SecurityConfig {
@@ -35,6 +37,8 @@ public class SecurityConfig {
             .cors(cors -> {})
             .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // 비동기 응답(롱폴링/SSE)의 재디스패치는 최초 요청에서 이미 인가됨
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // Public endpoints (root, error, static resources)
                 .requestMatchers("/", "/index.html", "/error", "/favicon.ico",
                         "/css/**", "/js/**", "/images/**", "/webjars/**", "/static/**").permitAll()
@@ -42,6 +46,8 @@ public class SecurityConfig {
                 .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
                 // Allow CORS preflight requests universally
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                // 헬스체크/메트릭 스크레이프 (운영에서는 네트워크 단에서 접근 제한)
+                .requestMatchers("/actuator/health/**", "/actuator/health", "/actuator/prometheus").permitAll()
                 // Auth endpoints
                 .requestMatchers("/api/auth/**").permitAll()
                 // Everything else requires auth
@@ -51,9 +57,10 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /** BCrypt 강도(work factor, 4~31). 바꾸면 기존 사용자는 다음 로그인 때 새 강도로 다시 해시됨 */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${floorida.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
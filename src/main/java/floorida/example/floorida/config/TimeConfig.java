@@ -0,0 +1,22 @@
+package floorida.example.floorida.config;
+
+import java.time.Clock;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class TimeConfig {
+
+    /**
+     * "오늘" 계산과 자정 전환에 쓰는 시계.
+     * 사용자 시간대는 UserTimeZones가 적용하므로 여기서는 UTC 기준 시각만 제공합니다.
+     * (테스트에서는 조작 가능한 시계로 교체)
+     */
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
+}
@@ -0,0 +1,98 @@
+package floorida.example.floorida.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * 가상 스레드 고정(pinning) 감지.
+ *
+ * 가상 스레드가 synchronized 블록이나 네이티브 호출 안에서 블로킹되면 캐리어(OS) 스레드를 붙잡아
+ * 가상 스레드의 이점이 사라집니다. JFR의 jdk.VirtualThreadPinned 이벤트를 앱 안에서 구독해
+ * threshold 이상 고정된 경우를 메트릭(floorida.threads.pinned)으로 남기고,
+ * 처음 보는 호출 위치는 스택과 함께 한 번만 경고 로그로 출력합니다.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final Counter pinned;
+    private final Timer pinnedDuration;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${floorida.threads.pinning-threshold:PT0.02S}") Duration threshold) {
+        this.threshold = threshold;
+        this.pinned = Counter.builder("floorida.threads.pinned")
+                .description("Virtual threads pinned to their carrier longer than the threshold")
+                .register(meterRegistry);
+        this.pinnedDuration = Timer.builder("floorida.threads.pinned.duration")
+                .description("How long virtual threads stayed pinned")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream rs = new RecordingStream();
+        rs.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        rs.onEvent(PINNED_EVENT, this::onPinned);
+        rs.startAsync();
+        stream = rs;
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream rs = stream;
+        stream = null;
+        if (rs != null) {
+            rs.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.increment();
+        pinnedDuration.record(event.getDuration());
+        if (event.getStackTrace() == null) {
+            return;
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        StringBuilder trace = new StringBuilder();
+        for (int i = 0; i < Math.min(LOGGED_FRAMES, frames.size()); i++) {
+            RecordedFrame frame = frames.get(i);
+            trace.append("\n\tat ").append(frame.getMethod().getType().getName())
+                    .append('.').append(frame.getMethod().getName())
+                    .append(':').append(frame.getLineNumber());
+        }
+        // 같은 위치는 메트릭으로만 집계
+        if (reportedSites.add(trace.toString())) {
+            log.warn("Virtual thread pinned for {} ms{}", event.getDuration().toMillis(), trace);
+        }
+    }
+}
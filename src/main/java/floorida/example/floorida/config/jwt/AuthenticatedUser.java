@@ -0,0 +1,18 @@
+package floorida.example.floorida.config.jwt;
+
+import java.security.Principal;
+
+/**
+ * JWT 필터에서 한 번 확인한 로그인 사용자 정보.
+ *
+ * SecurityContext의 principal로 저장되어, 이후 서비스 계층에서
+ * users 테이블을 다시 조회하지 않고 userId를 사용할 수 있게 합니다.
+ * getName()은 기존과 동일하게 이메일을 반환합니다.
+ */
+public record AuthenticatedUser(Long userId, String email, String username) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -1,6 +1,7 @@
 package floorida.example.floorida.config.jwt;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -9,8 +10,10 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import floorida.example.floorida.repository.UserRepository;
 import floorida.example.floorida.service.JwtService;
+import floorida.example.floorida.service.UserPrincipalCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,11 +23,26 @@ import jakarta.servlet.http.HttpServletResponse;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
+    // Bearer 토큰 인증 시간 (outcome: authenticated / unknown_user / invalid_token)
+    private final Timer authenticated;
+    private final Timer unknownUser;
+    private final Timer invalidToken;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserRepository userRepository) {
+    public JwtAuthenticationFilter(JwtService jwtService, UserPrincipalCache userPrincipalCache,
+                                   MeterRegistry meterRegistry) {
         this.jwtService = jwtService;
-        this.userRepository = userRepository;
+        this.userPrincipalCache = userPrincipalCache;
+        this.authenticated = authTimer(meterRegistry, "authenticated");
+        this.unknownUser = authTimer(meterRegistry, "unknown_user");
+        this.invalidToken = authTimer(meterRegistry, "invalid_token");
+    }
+
+    private static Timer authTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("floorida.jwt.authentication")
+                .description("Bearer token authentication latency")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 
     @Override
@@ -36,19 +54,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
         String token = authHeader.substring(7);
+        long startedAt = System.nanoTime();
+        Timer outcome = invalidToken;
         try {
             String email = jwtService.extractSubject(token);
             if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                var userOpt = userRepository.findByEmail(email);
-                if (userOpt.isPresent()) {
-                    var auth = new UsernamePasswordAuthenticationToken(email, null, java.util.List.of());
+                // 캐시를 거쳐 사용자 확인 후, principal에 userId까지 담아 둔다
+                var principalOpt = userPrincipalCache.resolve(email);
+                if (principalOpt.isPresent()) {
+                    var auth = new UsernamePasswordAuthenticationToken(principalOpt.get(), null, java.util.List.of());
                     auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(auth);
+                    outcome = authenticated;
+                } else {
+                    outcome = unknownUser;
                 }
+            } else if (email != null) {
+                outcome = authenticated;
             }
         } catch (Exception e) {
             // Invalid token - ignore and continue without authentication
         }
+        // 다운스트림 처리 시간은 제외하고 인증 구간만 기록
+        outcome.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
         filterChain.doFilter(request, response);
     }
 }
@@ -0,0 +1,46 @@
+package floorida.example.floorida.config.jwt;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import floorida.example.floorida.entity.User;
+import floorida.example.floorida.service.UserPrincipalCache;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * User 엔티티가 수정/삭제되면 인증 사용자 캐시에서 그 사용자를 제거하는 JPA 엔티티 리스너.
+ *
+ * 트랜잭션 안에서 바뀌면 커밋 이후에 한 번만 제거하여, 그 사이 다른 요청이 옛 값을 다시 채우지 않게 합니다.
+ * Hibernate가 EntityManagerFactory를 만드는 도중 스프링 빈 컨테이너로 생성하므로,
+ * UserRepository(→ EntityManagerFactory)에 의존하는 캐시는 순환 참조가 되지 않게 쓸 때 꺼냅니다.
+ */
+public class UserPrincipalCacheEvictor {
+
+    private final ObjectProvider<UserPrincipalCache> userPrincipalCache;
+
+    public UserPrincipalCacheEvictor(ObjectProvider<UserPrincipalCache> userPrincipalCache) {
+        this.userPrincipalCache = userPrincipalCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    void evict(User user) {
+        Long userId = user.getUserId();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictNow(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictNow(userId);
+            }
+        });
+    }
+
+    private void evictNow(Long userId) {
+        userPrincipalCache.ifAvailable(cache -> cache.evictUser(userId));
+    }
+}
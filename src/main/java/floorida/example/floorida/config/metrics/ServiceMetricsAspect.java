@@ -0,0 +1,104 @@
+package floorida.example.floorida.config.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 서비스/리포지토리 메서드 실행 시간 타이머.
+ *
+ * - floorida.service: service 패키지의 @Service 빈 public 메서드 (class, method, outcome)
+ * - floorida.repository: repository 패키지의 Spring Data 리포지토리 메서드 (class, method, outcome)
+ *
+ * outcome은 success / invalid(IllegalArgumentException) / rejected(TaskRejectedException) / error 입니다.
+ * 같은 빈 안에서의 자기 호출은 프록시를 거치지 않으므로 집계되지 않습니다.
+ * Stream을 반환하는 메서드는 실제 작업이 호출자가 스트림을 소비할 때 일어나므로 제외합니다.
+ * (반환 시점까지만 재면 실제보다 짧게 집계되고, 소비 중 예외는 outcome에 잡히지 않음)
+ * 백분위 히스토그램은 management.metrics.distribution.percentiles-histogram.* 로 켭니다.
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    static final String SERVICE_TIMER = "floorida.service";
+    static final String REPOSITORY_TIMER = "floorida.repository";
+
+    private static final String REPOSITORY_PACKAGE = "floorida.example.floorida.repository";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Key, Timer> timers = new ConcurrentHashMap<>();
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Pointcut("execution(java.util.stream.BaseStream+ *(..))")
+    void returnsStream() {
+    }
+
+    @Around("within(floorida.example.floorida.service..*) && @within(org.springframework.stereotype.Service) && !returnsStream()")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        Class<?> type = ClassUtils.getUserClass(AopUtils.getTargetClass(joinPoint.getTarget()));
+        return time(SERVICE_TIMER, type.getSimpleName(), joinPoint);
+    }
+
+    @Around("execution(* floorida.example.floorida.repository..*Repository+.*(..)) && !returnsStream()")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(REPOSITORY_TIMER, repositoryName(joinPoint), joinPoint);
+    }
+
+    private Object time(String name, String type, ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = joinPoint.getSignature().getName();
+        long startedAt = System.nanoTime();
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (IllegalArgumentException e) {
+            outcome = "invalid";
+            throw e;
+        } catch (TaskRejectedException e) {
+            outcome = "rejected";
+            throw e;
+        } catch (Throwable e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - startedAt;
+            timers.computeIfAbsent(new Key(name, type, method, outcome), this::register)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer register(Key key) {
+        return Timer.builder(key.name())
+                .description(key.name().equals(SERVICE_TIMER) ? "Service method latency" : "Repository call latency")
+                .tag("class", key.type())
+                .tag("method", key.method())
+                .tag("outcome", key.outcome())
+                .register(meterRegistry);
+    }
+
+    /** save/findById 등 상속 메서드도 CrudRepository가 아니라 실제 리포지토리 이름으로 집계 */
+    private static String repositoryName(ProceedingJoinPoint joinPoint) {
+        for (Class<?> type : ClassUtils.getAllInterfacesForClass(joinPoint.getTarget().getClass())) {
+            if (type.getPackageName().equals(REPOSITORY_PACKAGE)) {
+                return type.getSimpleName();
+            }
+        }
+        return joinPoint.getSignature().getDeclaringType().getSimpleName();
+    }
+
+    private record Key(String name, String type, String method, String outcome) {}
+}
@@ -1,5 +1,7 @@
 package floorida.example.floorida.controller;
 
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -40,12 +42,17 @@ public class AuthController {
     @Operation(summary = "회원가입", description = "이메일/비밀번호/사용자명으로 회원가입")
     @ApiResponse(responseCode = "201", description = "생성된 사용자 ID 반환",
         content = @Content(schema = @Schema(implementation = Long.class)))
+    @ApiResponse(responseCode = "429", description = "가입/로그인 요청이 몰려 비밀번호 처리 대기열이 가득 참 (잠시 후 재시도)")
     public ResponseEntity<?> register(@Valid @RequestBody SignupRequest request) {
         try {
             User user = userService.register(request);
             return ResponseEntity.status(HttpStatus.CREATED).body(user.getUserId());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (TaskRejectedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body("Too many sign-up/login requests in progress");
         }
     }
 
@@ -53,6 +60,7 @@ public class AuthController {
     @Operation(summary = "로그인", description = "이메일/비밀번호로 로그인하고 JWT 발급")
     @ApiResponse(responseCode = "200", description = "JWT 액세스 토큰 반환",
         content = @Content(schema = @Schema(implementation = AuthResponse.class)))
+    @ApiResponse(responseCode = "429", description = "가입/로그인 요청이 몰려 비밀번호 처리 대기열이 가득 참 (잠시 후 재시도)")
     public ResponseEntity<?> login(@Valid @RequestBody LoginRequest request) {
         try {
             User user = userService.authenticateOrThrow(request);
@@ -60,6 +68,10 @@ public class AuthController {
             return ResponseEntity.ok(new AuthResponse(token));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid credentials");
+        } catch (TaskRejectedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body("Too many sign-up/login requests in progress");
         }
     }
 }
@@ -13,6 +13,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/characters")
@@ -22,6 +23,7 @@ import org.springframework.web.bind.annotation.*;
 public class CharacterController {
     
     private final CharacterService characterService;
+    private final ConditionalGet conditionalGet;
 
     @GetMapping("/me")
     @Operation(
@@ -33,6 +35,10 @@ public class CharacterController {
             - 회원가입 시 자동으로 기본 캐릭터 할당
             - AWS S3에 저장된 이미지 URL 반환
             
+            **캐시 재검증 (ETag):**
+            - 응답의 ETag를 다음 요청에 If-None-Match 로 전달하면,
+              그 사이 일정/Floor 변경이 없을 때 조회 없이 본문 없는 304를 반환합니다.
+            
             **권한:**
             - JWT 토큰 필수
             """
@@ -55,6 +61,10 @@ public class CharacterController {
                 )
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "마지막 응답 이후 변경 없음 (If-None-Match 일치, 본문 없음)"
+        ),
         @ApiResponse(
             responseCode = "401",
             description = "인증 실패",
@@ -66,7 +76,7 @@ public class CharacterController {
             content = @Content(mediaType = "application/json")
         )
     })
-    public ResponseEntity<CharacterResponse> getMyCharacter() {
-        return ResponseEntity.ok(characterService.getMyCharacter());
+    public ResponseEntity<CharacterResponse> getMyCharacter(WebRequest webRequest) {
+        return conditionalGet.respond(webRequest, "characters.me", characterService::getMyCharacter, "character");
     }
 }
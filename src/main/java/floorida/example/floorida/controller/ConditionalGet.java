@@ -0,0 +1,70 @@
+package floorida.example.floorida.controller;
+
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import floorida.example.floorida.config.jwt.AuthenticatedUser;
+import floorida.example.floorida.service.CurrentUserService;
+import floorida.example.floorida.service.UserDataVersions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 사용자 데이터 버전 기반 조건부 GET.
+ *
+ * If-None-Match 가 현재 버전의 ETag와 같으면 본문을 만들지 않고(조회 쿼리 없이) 304를 돌려주고,
+ * 다르면 본문을 만들어 ETag와 함께 200으로 돌려줍니다.
+ * 결과는 floorida.http.conditional{endpoint, result=not_modified|modified} 로 집계합니다.
+ */
+@Component
+class ConditionalGet {
+
+    // 클라이언트는 저장한 본문을 쓰기 전에 항상 재검증
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final CurrentUserService currentUserService;
+    private final UserDataVersions userDataVersions;
+    private final MeterRegistry meterRegistry;
+
+    ConditionalGet(CurrentUserService currentUserService,
+                   UserDataVersions userDataVersions,
+                   MeterRegistry meterRegistry) {
+        this.currentUserService = currentUserService;
+        this.userDataVersions = userDataVersions;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param endpoint 메트릭 태그용 이름
+     * @param parts    같은 사용자 버전에서도 본문을 바꾸는 요소 (조회 날짜, 리소스 ID 등)
+     */
+    <T> ResponseEntity<T> respond(WebRequest request, String endpoint, Supplier<T> body, Object... parts) {
+        AuthenticatedUser user = currentUserService.getCurrentPrincipal()
+                .orElseThrow(() -> new IllegalStateException("Unauthenticated"));
+        // 본문보다 버전을 먼저 읽어야 오래된 본문에 새 버전이 붙지 않는다
+        String etag = userDataVersions.etag(user.userId(), parts);
+        if (request.checkNotModified(etag)) {
+            // 304 상태와 ETag 헤더는 checkNotModified 가 설정
+            counter(endpoint, "not_modified").increment();
+            return null;
+        }
+        T value = body.get();
+        counter(endpoint, "modified").increment();
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .body(value);
+    }
+
+    private Counter counter(String endpoint, String result) {
+        return Counter.builder("floorida.http.conditional")
+                .description("Conditional GET results (not_modified skips body rendering and queries)")
+                .tag("endpoint", endpoint)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
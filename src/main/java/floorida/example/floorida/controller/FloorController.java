@@ -8,9 +8,15 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import floorida.example.floorida.dto.FloorBatchCompleteRequest;
+import floorida.example.floorida.dto.FloorBatchCompleteResponse;
+import floorida.example.floorida.dto.FloorRangeResponse;
 import floorida.example.floorida.dto.FloorResponse;
 import floorida.example.floorida.service.FloorService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -23,6 +29,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/api/floors")
@@ -31,9 +38,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 public class FloorController {
 
     private final FloorService floorService;
+    private final ConditionalGet conditionalGet;
 
-    public FloorController(FloorService floorService) {
+    public FloorController(FloorService floorService, ConditionalGet conditionalGet) {
         this.floorService = floorService;
+        this.conditionalGet = conditionalGet;
     }
 
     @GetMapping("/today")
@@ -41,6 +50,7 @@ public class FloorController {
         summary = "오늘 할 일 조회",
         description = """
             로그인한 사용자의 오늘 날짜(scheduledDate)에 해당하는 모든 Floor를 조회합니다.
+            "오늘"은 사용자 시간대(PUT /api/me/time-zone) 기준입니다.
             
             **사용 사례:**
             - 메인 화면에서 "오늘 할 일" 목록 표시
@@ -50,6 +60,10 @@ public class FloorController {
             - Floor 기본 정보 (ID, 제목, 날짜)
             - 소속 일정 정보 (ID, 제목, 색상) - UI 표시용
             
+            **캐시 재검증 (ETag):**
+            - 응답의 ETag를 다음 요청에 If-None-Match 로 전달하면,
+              그 사이 일정/Floor 변경이 없을 때 조회 없이 본문 없는 304를 반환합니다.
+            
             **권한:**
             - JWT 토큰 필수
             - 본인이 생성한 Floor만 조회
@@ -72,7 +86,8 @@ public class FloorController {
                             "scheduleTitle": "토익 900점 달성",
                             "scheduleColor": "#FF6B6B",
                             "floorTitle": "RC 파트 총정리",
-                            "scheduledDate": "2025-11-13"
+                            "scheduledDate": "2025-11-13",
+                            "completed": false
                           },
                           {
                             "floorId": 5,
@@ -80,21 +95,28 @@ public class FloorController {
                             "scheduleTitle": "운동 루틴 만들기",
                             "scheduleColor": "#4ECDC4",
                             "floorTitle": "스쿼트 100개",
-                            "scheduledDate": "2025-11-13"
+                            "scheduledDate": "2025-11-13",
+                            "completed": false
                           }
                         ]
                         """
                 )
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "마지막 응답 이후 변경 없음 (If-None-Match 일치, 본문 없음)"
+        ),
         @ApiResponse(
             responseCode = "401",
             description = "인증 실패",
             content = @Content(mediaType = "application/json")
         )
     })
-    public ResponseEntity<List<FloorResponse>> getTodayFloors() {
-        return ResponseEntity.ok(floorService.getTodayFloors());
+    public ResponseEntity<List<FloorResponse>> getTodayFloors(WebRequest webRequest) {
+        // 날짜가 바뀌면 데이터 변경이 없어도 본문이 달라지므로 ETag에 (사용자 시간대 기준) 오늘 날짜 포함
+        return conditionalGet.respond(webRequest, "floors.today", floorService::getTodayFloors,
+                floorService.todayOfCurrentUser());
     }
 
     @GetMapping("/date/{date}")
@@ -110,6 +132,10 @@ public class FloorController {
             **날짜 형식:**
             - YYYY-MM-DD (예: 2025-11-20)
             
+            **캐시 재검증 (ETag):**
+            - 응답의 ETag를 다음 요청에 If-None-Match 로 전달하면,
+              그 사이 일정/Floor 변경이 없을 때 조회 없이 본문 없는 304를 반환합니다.
+            
             **권한:**
             - JWT 토큰 필수
             - 본인이 생성한 Floor만 조회
@@ -132,13 +158,18 @@ public class FloorController {
                             "scheduleTitle": "토익 900점 달성",
                             "scheduleColor": "#FF6B6B",
                             "floorTitle": "실전 모의고사 3회",
-                            "scheduledDate": "2025-11-20"
+                            "scheduledDate": "2025-11-20",
+                            "completed": false
                           }
                         ]
                         """
                 )
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "마지막 응답 이후 변경 없음 (If-None-Match 일치, 본문 없음)"
+        ),
         @ApiResponse(
             responseCode = "400",
             description = "잘못된 날짜 형식",
@@ -156,9 +187,98 @@ public class FloorController {
             required = true,
             example = "2025-11-20"
         )
-        @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+        @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+        WebRequest webRequest
+    ) {
+        return conditionalGet.respond(webRequest, "floors.date", () -> floorService.getFloorsByDate(date), date);
+    }
+
+    @GetMapping("/range")
+    @Operation(
+        summary = "기간별(캘린더) 할 일 집계 조회",
+        description = """
+            로그인한 사용자의 from~to 기간 Floor를 날짜별로 집계해 반환합니다.
+            
+            **사용 사례:**
+            - 월간 캘린더에서 날짜별 할 일 개수 / 완료 개수 / 일정 색상 점 표시
+            - expand=true 로 요청하면 날짜별 Floor 목록까지 함께 반환
+            
+            **조회 방식:**
+            - 기간 전체를 한 번의 쿼리로 조회 (날짜별 요청 반복 불필요)
+            - Floor가 없는 날도 count 0으로 포함
+            - 최대 조회 기간: 93일
+            
+            **캐시 재검증 (ETag):**
+            - 응답의 ETag를 다음 요청에 If-None-Match 로 전달하면,
+              그 사이 일정/Floor 변경이 없을 때 조회 없이 본문 없는 304를 반환합니다.
+            
+            **권한:**
+            - JWT 토큰 필수
+            - 본인이 생성한 Floor만 조회
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = FloorRangeResponse.class),
+                examples = @ExampleObject(
+                    name = "기간별 집계",
+                    value = """
+                        {
+                          "from": "2025-11-20",
+                          "to": "2025-11-21",
+                          "days": [
+                            {
+                              "date": "2025-11-20",
+                              "floorCount": 3,
+                              "completedCount": 1,
+                              "colors": ["#4D96FF", "#FF6B6B"]
+                            },
+                            {
+                              "date": "2025-11-21",
+                              "floorCount": 0,
+                              "completedCount": 0,
+                              "colors": []
+                            }
+                          ]
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "마지막 응답 이후 변경 없음 (If-None-Match 일치, 본문 없음)"
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "잘못된 날짜 범위 (to < from 또는 최대 기간 초과)",
+            content = @Content(mediaType = "text/plain")
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "인증 실패",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    public ResponseEntity<?> getFloorRange(
+        @Parameter(description = "조회 시작일 (YYYY-MM-DD)", required = true, example = "2025-11-01")
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @Parameter(description = "조회 종료일 (YYYY-MM-DD, 포함)", required = true, example = "2025-11-30")
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @Parameter(description = "true면 날짜별 Floor 목록 포함", example = "false")
+        @RequestParam(defaultValue = "false") boolean expand,
+        WebRequest webRequest
     ) {
-        return ResponseEntity.ok(floorService.getFloorsByDate(date));
+        try {
+            return conditionalGet.respond(webRequest, "floors.range",
+                    () -> floorService.getFloorRange(from, to, expand), from, to, expand);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     @PostMapping("/{floorId}/complete")
@@ -204,4 +324,60 @@ public class FloorController {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
+
+    @PostMapping("/complete")
+    @Operation(
+        summary = "여러 Floor 일괄 완료 체크",
+        description = """
+            여러 Floor를 한 번의 요청으로 완료 처리합니다. 새로 완료된 Floor마다 **10코인**과 개인 층수 +1이 지급됩니다.
+
+            - 처리 방식
+              - 하나의 트랜잭션에서 처리되며, 보상은 합산되어 한 번에 반영됩니다
+              - 일부 Floor가 실패해도 나머지는 완료 처리됩니다
+            - Floor별 결과(outcome)
+              - COMPLETED: 이번 요청으로 완료됨
+              - ALREADY_COMPLETED: 이미 완료된 Floor, 또는 동시에 다른 요청이 먼저 완료한 Floor (코인 미지급)
+              - NOT_FOUND: 존재하지 않는 Floor
+              - NOT_AUTHORIZED: 본인이 생성하지 않은 Floor
+            - 권한
+              - JWT 토큰 필수
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "처리 성공 (Floor별 결과 포함)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = FloorBatchCompleteResponse.class),
+                examples = @ExampleObject(
+                    name = "일괄 완료 결과",
+                    value = """
+                        {
+                          "completedCount": 2,
+                          "pointsAwarded": 20,
+                          "results": [
+                            { "floorId": 1, "outcome": "COMPLETED" },
+                            { "floorId": 2, "outcome": "COMPLETED" },
+                            { "floorId": 3, "outcome": "ALREADY_COMPLETED" }
+                          ]
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "floorIds 누락 또는 잘못된 요청",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "인증 실패",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    public ResponseEntity<FloorBatchCompleteResponse> completeFloors(@Valid @RequestBody FloorBatchCompleteRequest request) {
+        return ResponseEntity.ok(floorService.completeFloors(request.getFloorIds()));
+    }
 }
@@ -4,15 +4,20 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import floorida.example.floorida.config.jwt.AuthenticatedUser;
 import floorida.example.floorida.dto.OnboardingRequest;
+import floorida.example.floorida.dto.TimeZoneRequest;
+import floorida.example.floorida.dto.TimeZoneResponse;
+import floorida.example.floorida.dto.UserProfileResponse;
 import floorida.example.floorida.entity.User;
-import floorida.example.floorida.entity.UserProfile;
 import floorida.example.floorida.service.CurrentUserService;
 import floorida.example.floorida.service.UserProfileService;
+import floorida.example.floorida.service.UserTimeZones;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -21,6 +26,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/api/me")
@@ -30,10 +36,13 @@ public class MeController {
 
     private final CurrentUserService currentUserService;
     private final UserProfileService userProfileService;
+    private final UserTimeZones userTimeZones;
 
-    public MeController(CurrentUserService currentUserService, UserProfileService userProfileService) {
+    public MeController(CurrentUserService currentUserService, UserProfileService userProfileService,
+                        UserTimeZones userTimeZones) {
         this.currentUserService = currentUserService;
         this.userProfileService = userProfileService;
+        this.userTimeZones = userTimeZones;
     }
 
     @GetMapping
@@ -76,10 +85,10 @@ public class MeController {
         )
     })
     public ResponseEntity<Integer> getMyPoints() {
-        User user = currentUserService.getCurrentUser()
+        AuthenticatedUser user = currentUserService.getCurrentPrincipal()
                 .orElseThrow(() -> new IllegalStateException("Unauthenticated"));
 
-        int points = userProfileService.getPoints(user.getUserId());
+        int points = userProfileService.getPoints(user.userId());
         return ResponseEntity.ok(points);
     }
 
@@ -100,7 +109,7 @@ public class MeController {
             description = "조회 성공",
             content = @Content(
                 mediaType = "application/json",
-                schema = @Schema(implementation = UserProfile.class),
+                schema = @Schema(implementation = UserProfileResponse.class),
                 examples = @ExampleObject(
                     name = "프로필 예시",
                     value = """
@@ -121,12 +130,11 @@ public class MeController {
             content = @Content(mediaType = "application/json")
         )
     })
-    public ResponseEntity<UserProfile> getMyProfile() {
-        User user = currentUserService.getCurrentUser()
+    public ResponseEntity<UserProfileResponse> getMyProfile() {
+        AuthenticatedUser user = currentUserService.getCurrentPrincipal()
                 .orElseThrow(() -> new IllegalStateException("Unauthenticated"));
 
-        UserProfile profile = userProfileService.getProfile(user.getUserId());
-        return ResponseEntity.ok(profile);
+        return ResponseEntity.ok(userProfileService.getProfile(user.userId()));
     }
 
     @PostMapping("/onboarding")
@@ -156,7 +164,7 @@ public class MeController {
             description = "저장 성공",
             content = @Content(
                 mediaType = "application/json",
-                schema = @Schema(implementation = UserProfile.class)
+                schema = @Schema(implementation = UserProfileResponse.class)
             )
         ),
         @ApiResponse(
@@ -165,14 +173,14 @@ public class MeController {
             content = @Content(mediaType = "application/json")
         )
     })
-    public ResponseEntity<UserProfile> saveOnboarding(@RequestBody OnboardingRequest request) {
+    public ResponseEntity<UserProfileResponse> saveOnboarding(@RequestBody OnboardingRequest request) {
         User user = currentUserService.getCurrentUser()
                 .orElseThrow(() -> new IllegalStateException("Unauthenticated"));
 
         // 프로필이 아직 없을 수도 있으니, 먼저 기본 프로필(가입 보너스 포함)을 보장
         userProfileService.ensureSignupBonusOnFirstLogin(user);
 
-        UserProfile updated = userProfileService.updateOnboarding(
+        UserProfileResponse updated = userProfileService.updateOnboarding(
                 user.getUserId(),
                 request.getPlanningTendency(),
                 request.getDailyStudyHours()
@@ -180,4 +188,49 @@ public class MeController {
 
         return ResponseEntity.ok(updated);
     }
+
+    @PutMapping("/time-zone")
+    @Operation(
+        summary = "시간대 설정",
+        description = """
+            "오늘 할 일"의 기준이 되는 시간대를 저장합니다. (IANA ID, 예: Asia/Seoul, America/New_York)
+
+            - 설정하지 않으면 서버 기본 시간대를 사용합니다.
+            - 저장 직후부터 오늘 할 일 / 일정 목록(ACTIVE, PAST)의 "오늘"이 이 시간대 기준으로 바뀝니다.
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "저장 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TimeZoneResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "알 수 없는 시간대",
+            content = @Content(mediaType = "text/plain")
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "인증 실패",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    public ResponseEntity<?> updateTimeZone(@Valid @RequestBody TimeZoneRequest request) {
+        User user = currentUserService.getCurrentUser()
+                .orElseThrow(() -> new IllegalStateException("Unauthenticated"));
+        userProfileService.ensureSignupBonusOnFirstLogin(user);
+        try {
+            String timeZone = userProfileService.updateTimeZone(user.getUserId(), request.getTimeZone());
+            return ResponseEntity.ok(TimeZoneResponse.builder()
+                    .timeZone(timeZone)
+                    .today(userTimeZones.today(user.getUserId()))
+                    .build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
 }
@@ -1,13 +1,26 @@
 package floorida.example.floorida.controller;
 
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import floorida.example.floorida.dto.AiScheduleJobResponse;
 import floorida.example.floorida.dto.AiScheduleRequest;
 import floorida.example.floorida.dto.ScheduleCreateRequest;
+import floorida.example.floorida.dto.ScheduleListResponse;
 import floorida.example.floorida.dto.ScheduleResponse;
 import floorida.example.floorida.dto.ScheduleUpdateRequest;
+import floorida.example.floorida.service.AiScheduleJobService;
+import floorida.example.floorida.service.AiScheduleStreamService;
 import floorida.example.floorida.service.ScheduleService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -27,10 +40,22 @@ import jakarta.validation.Valid;
 @SecurityRequirement(name = "Bearer Authentication")
 public class ScheduleController {
 
+    // 롱폴링 최대 대기 시간 (서블릿 비동기 타임아웃보다 짧게)
+    private static final int MAX_WAIT_SECONDS = 25;
+
     private final ScheduleService scheduleService;
+    private final AiScheduleJobService aiScheduleJobService;
+    private final AiScheduleStreamService aiScheduleStreamService;
+    private final ConditionalGet conditionalGet;
 
-    public ScheduleController(ScheduleService scheduleService) {
+    public ScheduleController(ScheduleService scheduleService,
+                              AiScheduleJobService aiScheduleJobService,
+                              AiScheduleStreamService aiScheduleStreamService,
+                              ConditionalGet conditionalGet) {
         this.scheduleService = scheduleService;
+        this.aiScheduleJobService = aiScheduleJobService;
+        this.aiScheduleStreamService = aiScheduleStreamService;
+        this.conditionalGet = conditionalGet;
     }
 
     @PostMapping
@@ -414,6 +439,289 @@ public class ScheduleController {
         return ResponseEntity.ok(scheduleService.createWithAi(req));
     }
 
+    @PostMapping("/ai/jobs")
+    @Operation(
+        summary = "AI 일정 생성 작업 접수 (비동기)",
+        description = """
+            `POST /api/schedules/ai`와 같은 요청 본문을 받지만, 계획 생성을 기다리지 않고 **작업 ID를 즉시 반환**합니다.
+
+            **동작 방식:**
+            1. 요청 검증 후 작업을 접수하고 202 Accepted + 작업 ID 반환
+            2. 전용 실행기에서 OpenAI 계획 생성 (DB 트랜잭션 밖에서 수행)
+            3. 계획이 완성되면 짧은 트랜잭션으로 일정 저장
+            4. `GET /api/schedules/ai/jobs/{jobId}`로 상태 조회 (`waitSeconds`로 롱폴링 가능)
+
+            **작업 상태:** PENDING → RUNNING → SUCCEEDED / FAILED
+
+            **권한:**
+            - JWT 토큰 필수
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "202",
+            description = "작업 접수됨",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = AiScheduleJobResponse.class),
+                examples = @ExampleObject(
+                    name = "작업 접수",
+                    value = """
+                        {
+                          "jobId": "3f2b8c1e-7d4a-4e0b-9a51-2c6f0d8e4b17",
+                          "status": "PENDING",
+                          "createdAt": "2025-11-13T09:00:00Z",
+                          "completedAt": null,
+                          "schedule": null,
+                          "error": null
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "잘못된 요청 (날짜 범위 오류 등)",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "인증 실패",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "429",
+            description = "대기 중인 AI 작업이 너무 많음 - 잠시 후 다시 시도",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    public ResponseEntity<?> submitAiJob(@Valid @RequestBody AiScheduleRequest req) {
+        try {
+            AiScheduleJobResponse job = aiScheduleJobService.submit(req);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/schedules/ai/jobs/" + job.getJobId()))
+                    .body(job);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (TaskRejectedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body("Too many AI planning jobs in progress");
+        }
+    }
+
+    @PostMapping(value = "/ai/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "AI 일정 생성 (SSE 스트리밍)",
+        description = """
+            `POST /api/schedules/ai`와 같은 요청 본문을 받아, 생성되는 세부 계획을 **Server-Sent Events로 하나씩** 전달합니다.
+            기간이 길어 생성이 오래 걸려도 첫 번째 Floor부터 바로 화면에 표시할 수 있습니다.
+
+            **이벤트:**
+            - `floor`: Floor 한 건 (`index`, `title`, `date`)
+            - `schedule`: 모든 Floor 생성 후 저장된 일정 (`POST /api/schedules/ai` 응답과 동일) - 마지막 이벤트
+            - `error`: 생성/저장 실패 메시지 - 마지막 이벤트
+
+            **참고:**
+            - 연결이 끊겨도 일정 생성과 저장은 끝까지 진행됩니다
+            - OpenAI 키가 없거나 호출이 실패하면 기본 계획이 한 번에 전달됩니다
+            - Floor 일부를 보낸 뒤 AI 응답이 끊기거나 제한 시간을 넘기면 일정은 저장되지 않고 `error`로 끝납니다
+
+            **권한:**
+            - JWT 토큰 필수
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "스트림 시작",
+            content = @Content(
+                mediaType = "text/event-stream",
+                examples = @ExampleObject(
+                    name = "이벤트 스트림",
+                    value = """
+                        event:floor
+                        id:0
+                        data:{"index":0,"title":"Part 5 문법 문제 풀이","date":"2025-11-01"}
+
+                        event:floor
+                        id:1
+                        data:{"index":1,"title":"LC Part 2 받아쓰기","date":"2025-11-02"}
+
+                        event:schedule
+                        data:{"scheduleId":1,"title":"토익 900점","floors":[...]}
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "잘못된 요청 (날짜 범위 오류 등)",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "인증 실패",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "429",
+            description = "진행 중인 AI 생성이 너무 많음 - 잠시 후 다시 시도",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    public ResponseEntity<?> streamWithAi(@Valid @RequestBody AiScheduleRequest req) {
+        try {
+            return ResponseEntity.ok(aiScheduleStreamService.open(req));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().contentType(MediaType.TEXT_PLAIN).body(e.getMessage());
+        } catch (TaskRejectedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).contentType(MediaType.TEXT_PLAIN)
+                    .body("Too many AI planning jobs in progress");
+        }
+    }
+
+    @GetMapping("/ai/jobs/{jobId}")
+    @Operation(
+        summary = "AI 일정 생성 작업 상태 조회",
+        description = """
+            비동기 AI 일정 생성 작업의 상태를 조회합니다.
+
+            - `waitSeconds`를 0보다 크게 주면 작업이 끝나거나 대기 시간이 지날 때까지 응답을 보류합니다 (롱폴링, 최대 25초)
+            - SUCCEEDED 상태이면 `schedule`에 생성된 일정이 포함됩니다
+            - 작업 정보는 접수 후 일정 시간(기본 1시간) 동안만 보관됩니다
+
+            **권한:**
+            - JWT 토큰 필수
+            - 본인이 접수한 작업만 조회 가능
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = AiScheduleJobResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "인증 실패",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "작업 없음 (만료되었거나 다른 사용자의 작업)",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    public CompletableFuture<ResponseEntity<AiScheduleJobResponse>> getAiJob(
+        @Parameter(description = "작업 ID", required = true)
+        @PathVariable String jobId,
+        @Parameter(description = "롱폴링 대기 시간(초), 0이면 즉시 응답", example = "10")
+        @RequestParam(defaultValue = "0") int waitSeconds
+    ) {
+        int wait = Math.max(0, Math.min(waitSeconds, MAX_WAIT_SECONDS));
+        if (wait == 0) {
+            return CompletableFuture.completedFuture(aiScheduleJobService.find(jobId)
+                    .map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.notFound().build()));
+        }
+        return aiScheduleJobService.await(jobId, Duration.ofSeconds(wait))
+                .map(future -> future.thenApply(ResponseEntity::ok))
+                .orElseGet(() -> CompletableFuture.completedFuture(ResponseEntity.notFound().build()));
+    }
+
+    @GetMapping
+    @Operation(
+        summary = "내 일정 목록 조회 (페이지네이션)",
+        description = """
+            내가 만든 일정을 **시작일 → 일정 ID 오름차순**으로 페이지 단위로 조회합니다.
+
+            **페이지네이션 (키셋 방식):**
+            - 첫 페이지는 `cursor` 없이 요청합니다
+            - 응답의 `hasNext`가 true이면 `nextCursor` 값을 `cursor`로 넘겨 다음 페이지를 요청합니다
+            - 페이지가 깊어져도 OFFSET 없이 인덱스를 따라 읽으므로 응답 속도가 일정합니다
+
+            **filter:**
+            - `ALL`: 전체 (기본값)
+            - `ACTIVE`: 오늘 진행 중인 일정
+            - `PAST`: 종료일이 오늘 이전인 일정
+            - `OVERLAP`: `from`~`to` 기간과 겹치는 일정 (`from`, `to` 필수)
+
+            **floors:**
+            - `NONE`: Floor 정보 제외
+            - `COUNT`: Floor 수(`floorCount`)만 포함 (기본값)
+            - `FULL`: Floor 목록 포함
+
+            **권한:**
+            - JWT 토큰 필수
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ScheduleListResponse.class),
+                examples = @ExampleObject(
+                    name = "floors=COUNT",
+                    value = """
+                        {
+                          "items": [
+                            {
+                              "scheduleId": 1,
+                              "title": "토익 900점 달성",
+                              "originalGoal": "토익 900점",
+                              "goalSummary": null,
+                              "startDate": "2025-10-24",
+                              "endDate": "2025-10-31",
+                              "color": "#1E90FF",
+                              "teamId": null,
+                              "floors": null,
+                              "floorCount": 8,
+                              "completedCount": 3
+                            }
+                          ],
+                          "hasNext": true,
+                          "nextCursor": "MjAyNS0xMC0yNDox"
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "잘못된 요청 (cursor 형식 오류, OVERLAP에 기간 누락 등)",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "인증 실패",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    public ResponseEntity<?> list(
+        @Parameter(description = "조회 조건", example = "ALL")
+        @RequestParam(defaultValue = "ALL") ScheduleListResponse.Filter filter,
+        @Parameter(description = "OVERLAP 조회 시작일", example = "2025-11-01")
+        @RequestParam(required = false) LocalDate from,
+        @Parameter(description = "OVERLAP 조회 종료일", example = "2025-11-30")
+        @RequestParam(required = false) LocalDate to,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "페이지 크기 (1~100)", example = "20")
+        @RequestParam(defaultValue = "20") int size,
+        @Parameter(description = "Floor 포함 방식", example = "COUNT")
+        @RequestParam(defaultValue = "COUNT") ScheduleListResponse.FloorsMode floors
+    ) {
+        try {
+            return ResponseEntity.ok(scheduleService.list(filter, from, to, cursor, size, floors));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(
         summary = "일정 단건 조회",
@@ -429,6 +737,10 @@ public class ScheduleController {
             - 세부 계획(floors) 전체 목록
             - 각 층의 완료 여부 (추후 구현 예정)
             
+            **캐시 재검증 (ETag):**
+            - 응답의 ETag를 다음 요청에 If-None-Match 로 전달하면,
+              그 사이 일정/Floor 변경이 없을 때 조회 없이 본문 없는 304를 반환합니다.
+            
             **권한:**
             - JWT 토큰 필수
             - 로그인한 사용자가 생성한 일정만 조회 가능
@@ -468,6 +780,10 @@ public class ScheduleController {
                 )
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "마지막 응답 이후 변경 없음 (If-None-Match 일치, 본문 없음)"
+        ),
         @ApiResponse(
             responseCode = "401",
             description = "인증 실패",
@@ -505,9 +821,10 @@ public class ScheduleController {
             required = true,
             example = "1"
         )
-        @PathVariable Long id
+        @PathVariable Long id,
+        WebRequest webRequest
     ) {
-        return ResponseEntity.ok(scheduleService.getById(id));
+        return conditionalGet.respond(webRequest, "schedules.get", () -> scheduleService.getById(id), "schedule", id);
     }
 
       @PatchMapping("/{id}")
@@ -0,0 +1,22 @@
+package floorida.example.floorida.dto;
+
+import java.time.LocalDate;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "AI 스트리밍 생성 중 전달되는 Floor 한 건 (SSE 'floor' 이벤트)")
+public class AiFloorEvent {
+
+    @Schema(description = "생성 순서 (0부터)", example = "0")
+    private int index;
+
+    @Schema(description = "세부 계획 제목", example = "Part 5 문법 문제 풀이")
+    private String title;
+
+    @Schema(description = "예정 날짜", example = "2025-11-01")
+    private LocalDate date;
+}
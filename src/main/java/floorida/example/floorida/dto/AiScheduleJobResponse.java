@@ -0,0 +1,38 @@
+package floorida.example.floorida.dto;
+
+import java.time.Instant;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "AI 일정 생성 작업 상태")
+public class AiScheduleJobResponse {
+
+    @Schema(description = "작업 ID", example = "3f2b8c1e-7d4a-4e0b-9a51-2c6f0d8e4b17")
+    private String jobId;
+
+    @Schema(description = "작업 상태", example = "RUNNING")
+    private Status status;
+
+    @Schema(description = "작업 접수 시각")
+    private Instant createdAt;
+
+    @Schema(description = "작업 종료 시각 (진행 중이면 null)")
+    private Instant completedAt;
+
+    @Schema(description = "생성된 일정 (SUCCEEDED 상태에서만 값이 있음)")
+    private ScheduleResponse schedule;
+
+    @Schema(description = "실패 사유 (FAILED 상태에서만 값이 있음)", example = "Invalid date range")
+    private String error;
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        SUCCEEDED,
+        FAILED
+    }
+}
@@ -0,0 +1,25 @@
+package floorida.example.floorida.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "여러 Floor 일괄 완료 요청")
+public class FloorBatchCompleteRequest {
+
+    @NotEmpty
+    @Size(max = 500)
+    @Schema(
+        description = "완료 처리할 Floor ID 목록 (중복 ID는 한 번만 처리)",
+        example = "[1, 2, 3]",
+        required = true
+    )
+    private List<@NotNull Long> floorIds;
+}
@@ -0,0 +1,41 @@
+package floorida.example.floorida.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "여러 Floor 일괄 완료 결과")
+public class FloorBatchCompleteResponse {
+
+    @Schema(description = "이번 요청으로 새로 완료된 Floor 수", example = "2")
+    private int completedCount;
+
+    @Schema(description = "이번 요청으로 지급된 코인", example = "20")
+    private int pointsAwarded;
+
+    @Schema(description = "Floor별 처리 결과 (요청 순서 유지)")
+    private List<Result> results;
+
+    public enum Outcome {
+        COMPLETED,
+        ALREADY_COMPLETED,
+        NOT_FOUND,
+        NOT_AUTHORIZED
+    }
+
+    @Getter
+    @Builder
+    @Schema(description = "Floor 한 건의 처리 결과")
+    public static class Result {
+
+        @Schema(description = "Floor ID", example = "1")
+        private Long floorId;
+
+        @Schema(description = "처리 결과", example = "COMPLETED")
+        private Outcome outcome;
+    }
+}
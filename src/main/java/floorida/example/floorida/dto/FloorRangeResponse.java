@@ -0,0 +1,47 @@
+package floorida.example.floorida.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "기간별(캘린더) Floor 집계")
+public class FloorRangeResponse {
+
+    @Schema(description = "조회 시작일", example = "2025-11-01")
+    private LocalDate from;
+
+    @Schema(description = "조회 종료일 (포함)", example = "2025-11-30")
+    private LocalDate to;
+
+    @Schema(description = "from~to 의 모든 날짜 (Floor가 없는 날은 count 0)")
+    private List<Day> days;
+
+    @Getter
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "하루치 집계")
+    public static class Day {
+
+        @Schema(description = "날짜", example = "2025-11-20")
+        private LocalDate date;
+
+        @Schema(description = "Floor 수", example = "3")
+        private int floorCount;
+
+        @Schema(description = "완료한 Floor 수", example = "1")
+        private int completedCount;
+
+        @Schema(description = "이 날 Floor가 있는 일정 색상 (중복 제거, 정렬)", example = "[\"#4D96FF\", \"#FF6B6B\"]")
+        private List<String> colors;
+
+        @Schema(description = "Floor 목록 (expand=true 일 때만 포함)")
+        private List<FloorResponse> floors;
+    }
+}
@@ -3,11 +3,13 @@ package floorida.example.floorida.dto;
 import java.time.LocalDate;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
 @Builder
+@AllArgsConstructor
 @Schema(description = "오늘 할 일 응답")
 public class FloorResponse {
     
@@ -28,4 +30,7 @@ public class FloorResponse {
     
     @Schema(description = "예정 날짜", example = "2025-11-13")
     private LocalDate scheduledDate;
+
+    @Schema(description = "완료 여부", example = "false")
+    private Boolean completed;
 }
@@ -0,0 +1,42 @@
+package floorida.example.floorida.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "일정 목록 (키셋 페이지네이션)")
+public class ScheduleListResponse {
+
+    @Schema(description = "이번 페이지 일정 (시작일, 일정 ID 오름차순)")
+    private List<ScheduleResponse> items;
+
+    @Schema(description = "다음 페이지가 있는지 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "다음 페이지 요청 시 cursor로 전달할 값 (마지막 페이지면 null)", example = "MjAyNS0xMS0wMTo0Mg")
+    private String nextCursor;
+
+    public enum Filter {
+        /** 전체 */
+        ALL,
+        /** 오늘 진행 중 */
+        ACTIVE,
+        /** 종료일이 오늘 이전 */
+        PAST,
+        /** from~to 기간과 겹치는 일정 */
+        OVERLAP
+    }
+
+    public enum FloorsMode {
+        /** Floor 정보 제외 */
+        NONE,
+        /** Floor 수만 포함 */
+        COUNT,
+        /** Floor 목록 포함 */
+        FULL
+    }
+}
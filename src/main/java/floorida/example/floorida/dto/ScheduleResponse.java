@@ -73,11 +73,25 @@ public class ScheduleResponse {
     private Long teamId;
     
     @Schema(
-        description = "세부 계획 목록 (Floors)",
+        description = "세부 계획 목록 (Floors). 목록 조회에서 floors=NONE/COUNT이면 null",
         required = true
     )
     private List<FloorDto> floors;
 
+    @Schema(
+        description = "세부 계획 수 (목록 조회에서 floors=NONE이면 null)",
+        example = "7",
+        required = false
+    )
+    private Integer floorCount;
+
+    @Schema(
+        description = "완료된 세부 계획 수",
+        example = "3",
+        required = false
+    )
+    private Integer completedCount;
+
     @Getter
     @Builder
     @Schema(description = "세부 계획 (Floor) 정보")
@@ -105,5 +119,12 @@ public class ScheduleResponse {
             format = "date"
         )
         private LocalDate scheduledDate;
+
+        @Schema(
+            description = "완료 여부",
+            example = "false",
+            required = false
+        )
+        private Boolean completed;
     }
 }
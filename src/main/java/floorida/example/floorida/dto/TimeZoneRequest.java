@@ -0,0 +1,16 @@
+package floorida.example.floorida.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "시간대 설정 요청")
+public class TimeZoneRequest {
+
+    @NotBlank
+    @Schema(description = "IANA 시간대 ID", example = "Asia/Seoul")
+    private String timeZone;
+}
@@ -0,0 +1,19 @@
+package floorida.example.floorida.dto;
+
+import java.time.LocalDate;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "시간대 설정 결과")
+public class TimeZoneResponse {
+
+    @Schema(description = "저장된 IANA 시간대 ID", example = "Asia/Seoul")
+    private String timeZone;
+
+    @Schema(description = "이 시간대 기준 오늘 날짜", example = "2025-11-20")
+    private LocalDate today;
+}
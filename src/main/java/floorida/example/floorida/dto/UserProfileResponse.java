@@ -0,0 +1,29 @@
+package floorida.example.floorida.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "내 프로필")
+public class UserProfileResponse {
+
+    @Schema(description = "사용자 ID", example = "1")
+    private Long userId;
+
+    @Schema(description = "현재 코인", example = "120")
+    private Integer points;
+
+    @Schema(description = "개인 층수", example = "3")
+    private Integer personalLevel;
+
+    @Schema(description = "계획 성향", example = "PLANS_AND_EXECUTES")
+    private String planningTendency;
+
+    @Schema(description = "하루 공부 시간", example = "HOURS_1_3")
+    private String dailyStudyHours;
+
+    @Schema(description = "\"오늘\" 계산에 쓰는 시간대 (없으면 서버 기본 시간대)", example = "Asia/Seoul")
+    private String timeZone;
+}
@@ -0,0 +1,41 @@
+package floorida.example.floorida.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * AI 계획 캐시 (재시작 후에도 유지되는 2차 저장소)
+ *
+ * - cacheKey: 정규화한 목표 + 기간 일수의 SHA-256
+ * - steps: 시작일 기준 상대 오프셋으로 저장한 단계 목록(JSON)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "ai_plan_cache")
+public class AiPlanCacheEntry {
+
+    @Id
+    @Column(name = "cache_key", length = 64)
+    private String cacheKey;
+
+    @Column(name = "normalized_goal", nullable = false, length = 1000)
+    private String normalizedGoal;
+
+    @Column(name = "day_count", nullable = false)
+    private Integer dayCount;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String steps;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
@@ -3,6 +3,8 @@ package floorida.example.floorida.entity;
 import java.time.Instant;
 import java.time.LocalDate;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import jakarta.persistence.*;
@@ -14,7 +16,12 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor
 @Entity
-@Table(name = "floors")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "floor")
+@Table(name = "floors", indexes = {
+    @Index(name = "idx_floors_creator_date", columnList = "creator_user_id, scheduled_date"),
+    @Index(name = "idx_floors_schedule", columnList = "schedule_id")
+})
 public class FloorPlan {
 
     @Id
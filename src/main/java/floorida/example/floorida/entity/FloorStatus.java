@@ -10,6 +10,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -32,6 +33,10 @@ import lombok.Setter;
     name = "floor_statuses",
     uniqueConstraints = {
         @UniqueConstraint(columnNames = {"floor_id", "user_id"})
+    },
+    indexes = {
+        // 사용자별 완료 기록 조회
+        @Index(name = "idx_floor_statuses_user_floor", columnList = "user_id, floor_id")
     }
 )
 public class FloorStatus {
@@ -5,6 +5,8 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import jakarta.persistence.*;
@@ -16,7 +18,12 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor
 @Entity
-@Table(name = "schedules")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "schedule")
+@Table(name = "schedules", indexes = {
+    // 사용자별 목록 키셋 페이지네이션 (start_date, schedule_id 순)
+    @Index(name = "idx_schedules_creator_start", columnList = "creator_user_id, start_date, schedule_id")
+})
 public class Schedule {
 
     @Id
@@ -54,6 +61,8 @@ public class Schedule {
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
+    // 2차 캐시에는 Floor ID 목록만 저장 (Floor 자체는 "floor" 리전). JDBC 배치 INSERT 후에는 FloorPlanBulkRepositoryImpl이 비움
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "schedule.floors")
     @OneToMany(mappedBy = "schedule", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<FloorPlan> floors = new ArrayList<>();
 
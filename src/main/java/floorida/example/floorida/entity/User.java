@@ -4,8 +4,10 @@ import java.time.Instant;
 
 import org.hibernate.annotations.CreationTimestamp;
 
+import floorida.example.floorida.config.jwt.UserPrincipalCacheEvictor;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -18,6 +20,7 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor
 @Entity
+@EntityListeners(UserPrincipalCacheEvictor.class)
 @Table(name = "users")
 public class User {
 
@@ -1,5 +1,7 @@
 package floorida.example.floorida.entity;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -20,11 +22,17 @@ import lombok.Setter;
  *
  * 온보딩에서 사용할 planningTendency / dailyStudyHours 는
  * 아직 UI/비즈니스 로직이 없으므로 선택 값으로 두고, 이후 확장 시 사용합니다.
+ *
+ * - timeZone: "오늘"을 계산할 사용자 시간대 (IANA ID, 없으면 서버 기본 시간대)
+ *
+ * points / personalLevel은 단일 UPDATE 문(또는 ProfileRewardBuffer의 배치 UPDATE)으로만 바꾸므로,
+ * 온보딩/시간대 저장이 읽어 둔 옛 값으로 덮어쓰지 않도록 바뀐 컬럼만 UPDATE 합니다(@DynamicUpdate).
  */
 @Getter
 @Setter
 @NoArgsConstructor
 @Entity
+@DynamicUpdate
 @Table(name = "user_profiles")
 public class UserProfile {
 
@@ -48,6 +56,9 @@ public class UserProfile {
 
     @Column(name = "personal_level", nullable = false)
     private Integer personalLevel = 1;
+
+    @Column(name = "time_zone", length = 64)
+    private String timeZone;
 }
 
 
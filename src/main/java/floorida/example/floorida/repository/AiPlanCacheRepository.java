@@ -0,0 +1,10 @@
+package floorida.example.floorida.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import floorida.example.floorida.entity.AiPlanCacheEntry;
+
+@Repository
+public interface AiPlanCacheRepository extends JpaRepository<AiPlanCacheEntry, String> {
+}
@@ -0,0 +1,20 @@
+package floorida.example.floorida.repository;
+
+import java.util.List;
+
+import floorida.example.floorida.entity.FloorPlan;
+
+/**
+ * Floor 대량 저장용 커스텀 리포지토리.
+ *
+ * FloorPlan은 IDENTITY 전략이라 Hibernate가 INSERT를 배치로 묶지 못하므로,
+ * JDBC 배치 INSERT로 한 번에 보내고 생성된 키를 돌려받습니다.
+ */
+public interface FloorPlanBulkRepository {
+
+    /**
+     * schedule이 이미 저장된 Floor 목록을 배치 INSERT 합니다.
+     * 생성된 floorId/createdAt을 각 객체에 채우며, 영속성 컨텍스트에는 올리지 않습니다.
+     */
+    void insertAll(List<FloorPlan> floors);
+}
@@ -0,0 +1,106 @@
+package floorida.example.floorida.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import floorida.example.floorida.entity.FloorPlan;
+import floorida.example.floorida.entity.Schedule;
+import jakarta.persistence.EntityManagerFactory;
+
+public class FloorPlanBulkRepositoryImpl implements FloorPlanBulkRepository {
+
+    private static final String INSERT_SQL =
+            "insert into floors (schedule_id, creator_user_id, title, scheduled_date, created_at) values (?, ?, ?, ?, ?)";
+
+    private static final String FLOORS_ROLE = Schedule.class.getName() + ".floors";
+
+    private final JdbcTemplate jdbcTemplate;
+    // null이면 2차 캐시 정리 생략 (벤치마크처럼 JPA 없이 쓸 때)
+    private final EntityManagerFactory entityManagerFactory;
+
+    public FloorPlanBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, null);
+    }
+
+    @Autowired
+    public FloorPlanBulkRepositoryImpl(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void insertAll(List<FloorPlan> floors) {
+        if (floors.isEmpty()) return;
+        Instant now = Instant.now();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, new String[] {"floor_id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        FloorPlan floor = floors.get(i);
+                        ps.setLong(1, floor.getSchedule().getScheduleId());
+                        ps.setLong(2, floor.getCreatorUserId());
+                        ps.setString(3, floor.getTitle());
+                        if (floor.getScheduledDate() != null) {
+                            ps.setObject(4, floor.getScheduledDate());
+                        } else {
+                            ps.setNull(4, Types.DATE);
+                        }
+                        ps.setTimestamp(5, Timestamp.from(now));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return floors.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < floors.size(); i++) {
+            // 드라이버마다 키 컬럼명 대소문자가 달라 첫 번째 값을 사용
+            Number id = (Number) keys.get(i).values().iterator().next();
+            floors.get(i).setFloorId(id.longValue());
+            floors.get(i).setCreatedAt(now);
+        }
+        evictFloorCollections(floors);
+    }
+
+    /**
+     * JDBC로 넣은 Floor는 Hibernate가 모르므로 일정의 floors 컬렉션 캐시를 직접 비웁니다.
+     * 커밋 전에 다른 요청이 옛 목록을 다시 캐시할 수 있어 커밋 후에 한 번 더 비웁니다.
+     */
+    private void evictFloorCollections(List<FloorPlan> floors) {
+        if (entityManagerFactory == null) return;
+        Set<Long> scheduleIds = floors.stream()
+                .map(f -> f.getSchedule().getScheduleId())
+                .collect(Collectors.toSet());
+        org.hibernate.Cache cache = entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class);
+        Runnable evict = () -> scheduleIds.forEach(id -> cache.evictCollectionData(FLOORS_ROLE, id));
+        evict.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        }
+    }
+}
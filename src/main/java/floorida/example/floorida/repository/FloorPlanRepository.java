@@ -1,19 +1,120 @@
 package floorida.example.floorida.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import floorida.example.floorida.dto.FloorResponse;
 import floorida.example.floorida.entity.FloorPlan;
 
 @Repository
-public interface FloorPlanRepository extends JpaRepository<FloorPlan, Long> {
-    List<FloorPlan> findBySchedule_ScheduleId(Long scheduleId);
+public interface FloorPlanRepository extends JpaRepository<FloorPlan, Long>, FloorPlanBulkRepository {
+    // 일정 ID 조건은 schedules 조인 없이 floors.schedule_id 로 직접 비교한다
+    // (파생 쿼리는 LEFT JOIN 후 조인 테이블 컬럼으로 필터링해 idx_floors_schedule 을 쓰지 못함)
+    @Query("select f from FloorPlan f where f.schedule.scheduleId = :scheduleId")
+    List<FloorPlan> findBySchedule_ScheduleId(@Param("scheduleId") Long scheduleId);
     List<FloorPlan> findByScheduledDate(LocalDate date);
-    List<FloorPlan> findBySchedule_ScheduleIdAndScheduledDate(Long scheduleId, LocalDate date);
+    @Query("select f from FloorPlan f where f.schedule.scheduleId = :scheduleId and f.scheduledDate = :date")
+    List<FloorPlan> findBySchedule_ScheduleIdAndScheduledDate(@Param("scheduleId") Long scheduleId, @Param("date") LocalDate date);
     
     // 특정 사용자의 특정 날짜 할 일 조회
     List<FloorPlan> findByCreatorUserIdAndScheduledDate(Long creatorUserId, LocalDate date);
+
+    // 특정 사용자의 특정 날짜 할 일을 일정 제목/색상, 완료 여부와 함께 한 번의 쿼리로 조회
+    @Query("""
+        select new floorida.example.floorida.dto.FloorResponse(
+            f.floorId, s.scheduleId, s.title, s.color, f.title, f.scheduledDate,
+            case when fs.statusId is null then false else true end)
+        from FloorPlan f
+        left join f.schedule s
+        left join FloorStatus fs on fs.floor = f and fs.user.userId = :userId
+        where f.creatorUserId = :userId and f.scheduledDate = :date
+        order by f.floorId
+        """)
+    List<FloorResponse> findFloorResponses(@Param("userId") Long userId, @Param("date") LocalDate date);
+
+    // 자정 전 미리 계산용: 여러 사용자의 특정 날짜 할 일을 한 번에 조회 (사용자 ID 포함)
+    @Query("""
+        select f.creatorUserId as userId, f.floorId as floorId, s.scheduleId as scheduleId,
+               s.title as scheduleTitle, s.color as scheduleColor, f.title as floorTitle,
+               f.scheduledDate as scheduledDate,
+               case when fs.statusId is null then false else true end as completed
+        from FloorPlan f
+        left join f.schedule s
+        left join FloorStatus fs on fs.floor = f and fs.user.userId = f.creatorUserId
+        where f.creatorUserId in :userIds and f.scheduledDate = :date
+        order by f.creatorUserId, f.floorId
+        """)
+    List<UserFloorRow> findFloorRowsForUsers(@Param("userIds") Collection<Long> userIds, @Param("date") LocalDate date);
+
+    // 캘린더 조회용: 기간 내 Floor 전체 (expand=true)
+    @Query("""
+        select new floorida.example.floorida.dto.FloorResponse(
+            f.floorId, s.scheduleId, s.title, s.color, f.title, f.scheduledDate,
+            case when fs.statusId is null then false else true end)
+        from FloorPlan f
+        left join f.schedule s
+        left join FloorStatus fs on fs.floor = f and fs.user.userId = :userId
+        where f.creatorUserId = :userId and f.scheduledDate between :from and :to
+        order by f.scheduledDate, f.floorId
+        """)
+    List<FloorResponse> findFloorResponsesBetween(@Param("userId") Long userId,
+                                                  @Param("from") LocalDate from,
+                                                  @Param("to") LocalDate to);
+
+    // 캘린더 조회용: 날짜 × 일정 색상별 Floor 수 / 완료 수 (idx_floors_creator_date 범위 스캔)
+    @Query("""
+        select f.scheduledDate as scheduledDate, s.color as color,
+               count(f) as floorCount, count(fs.statusId) as completedCount
+        from FloorPlan f
+        left join f.schedule s
+        left join FloorStatus fs on fs.floor = f and fs.user.userId = :userId
+        where f.creatorUserId = :userId and f.scheduledDate between :from and :to
+        group by f.scheduledDate, s.color
+        order by f.scheduledDate, s.color
+        """)
+    List<DayColorCount> countByDayAndColor(@Param("userId") Long userId,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to);
+
+    // 목록 조회용: 여러 일정의 Floor를 한 번에 조회 (일정별 N+1 방지)
+    @Query("select f from FloorPlan f where f.schedule.scheduleId in :scheduleIds order by f.scheduledDate, f.floorId")
+    List<FloorPlan> findBySchedule_ScheduleIdInOrderByScheduledDateAscFloorIdAsc(@Param("scheduleIds") Collection<Long> scheduleIds);
+
+    // 목록 조회용: 일정별 Floor 수
+    @Query("""
+        select f.schedule.scheduleId as scheduleId, count(f) as floorCount
+        from FloorPlan f
+        where f.schedule.scheduleId in :scheduleIds
+        group by f.schedule.scheduleId
+        """)
+    List<FloorCount> countBySchedule(@Param("scheduleIds") Collection<Long> scheduleIds);
+
+    interface FloorCount {
+        Long getScheduleId();
+        Long getFloorCount();
+    }
+
+    interface UserFloorRow {
+        Long getUserId();
+        Long getFloorId();
+        Long getScheduleId();
+        String getScheduleTitle();
+        String getScheduleColor();
+        String getFloorTitle();
+        LocalDate getScheduledDate();
+        Boolean getCompleted();
+    }
+
+    interface DayColorCount {
+        LocalDate getScheduledDate();
+        String getColor();
+        Long getFloorCount();
+        Long getCompletedCount();
+    }
 }
@@ -0,0 +1,19 @@
+package floorida.example.floorida.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Floor 완료 기록 대량 저장용 커스텀 리포지토리.
+ *
+ * FloorStatus도 IDENTITY 전략이라 saveAll은 Floor마다 INSERT를 한 번씩 보내므로,
+ * FloorPlanBulkRepository와 같이 JDBC 배치 INSERT 한 번으로 보냅니다.
+ */
+public interface FloorStatusBulkRepository {
+
+    /**
+     * 사용자의 Floor 완료 기록을 배치 INSERT 합니다. 영속성 컨텍스트에는 올리지 않습니다.
+     * 같은 (Floor, 사용자) 기록이 이미 있으면 DataIntegrityViolationException이 발생합니다.
+     */
+    void insertCompleted(Long userId, List<Long> floorIds, Instant completedAt);
+}
@@ -0,0 +1,43 @@
+package floorida.example.floorida.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class FloorStatusBulkRepositoryImpl implements FloorStatusBulkRepository {
+
+    private static final String INSERT_SQL =
+            "insert into floor_statuses (floor_id, user_id, is_completed, completed_at, created_at) values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FloorStatusBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertCompleted(Long userId, List<Long> floorIds, Instant completedAt) {
+        if (floorIds.isEmpty()) return;
+        Timestamp now = Timestamp.from(completedAt);
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, floorIds.get(i));
+                ps.setLong(2, userId);
+                ps.setBoolean(3, true);
+                ps.setTimestamp(4, now);
+                ps.setTimestamp(5, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return floorIds.size();
+            }
+        });
+    }
+}
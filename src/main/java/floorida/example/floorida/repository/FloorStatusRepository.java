@@ -1,18 +1,35 @@
 package floorida.example.floorida.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import floorida.example.floorida.entity.FloorStatus;
 
 @Repository
-public interface FloorStatusRepository extends JpaRepository<FloorStatus, Long> {
+public interface FloorStatusRepository extends JpaRepository<FloorStatus, Long>, FloorStatusBulkRepository {
 
     Optional<FloorStatus> findByFloor_FloorIdAndUser_UserId(Long floorId, Long userId);
 
     boolean existsByFloor_FloorIdAndUser_UserId(Long floorId, Long userId);
+
+    // 주어진 Floor 중 이미 완료한 Floor ID만 한 번의 쿼리로 조회
+    @Query("select fs.floor.floorId from FloorStatus fs where fs.user.userId = :userId and fs.floor.floorId in :floorIds")
+    List<Long> findCompletedFloorIds(@Param("userId") Long userId, @Param("floorIds") Collection<Long> floorIds);
+
+    // 사용자의 모든 완료 기록 (완료 인덱스 재구성용)
+    @Query("select f.floorId as floorId, f.schedule.scheduleId as scheduleId from FloorStatus fs join fs.floor f where fs.user.userId = :userId")
+    List<CompletedFloor> findCompletedFloors(@Param("userId") Long userId);
+
+    interface CompletedFloor {
+        Long getFloorId();
+        Long getScheduleId();
+    }
 }
 
 
@@ -4,6 +4,10 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -15,4 +19,9 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     List<Schedule> findByTeamId(Long teamId);
     Optional<Schedule> findByScheduleIdAndCreatorUserId(Long id, Long creatorUserId);
     List<Schedule> findByCreatorUserIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(Long creatorUserId, LocalDate start, LocalDate end);
+
+    // 목록 조회용 키셋(seek) 페이지네이션: (creator_user_id, start_date, schedule_id) 인덱스를 따라 읽는다
+    Window<Schedule> findByCreatorUserId(Long creatorUserId, ScrollPosition position, Sort sort, Limit limit);
+    Window<Schedule> findByCreatorUserIdAndEndDateLessThan(Long creatorUserId, LocalDate date, ScrollPosition position, Sort sort, Limit limit);
+    Window<Schedule> findByCreatorUserIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(Long creatorUserId, LocalDate start, LocalDate end, ScrollPosition position, Sort sort, Limit limit);
 }
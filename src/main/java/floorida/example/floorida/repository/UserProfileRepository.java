@@ -1,12 +1,39 @@
 package floorida.example.floorida.repository;
 
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import floorida.example.floorida.entity.UserProfile;
 
 @Repository
 public interface UserProfileRepository extends JpaRepository<UserProfile, Long> {
-}
 
+    // 카운터 변경은 엔티티를 읽지 않고 단일 UPDATE 문으로 원자적으로 처리한다 (반환값: 변경된 행 수)
+    // 호출자 트랜잭션의 다른 엔티티까지 분리되지 않도록 영속성 컨텍스트는 비우지 않는다
+    // (같은 트랜잭션에서 이미 읽은 UserProfile이 있다면 그 값은 갱신 전 값이다)
+
+    @Modifying(flushAutomatically = true)
+    @Query("update UserProfile p set p.points = p.points + :points where p.userId = :userId")
+    int addPoints(@Param("userId") Long userId, @Param("points") int points);
+
+    // 잔액(+ 아직 반영되지 않은 보상 pending)이 부족하면 0행이 변경된다
+    @Modifying(flushAutomatically = true)
+    @Query("update UserProfile p set p.points = p.points - :points where p.userId = :userId and p.points + :pending >= :points")
+    int deductPoints(@Param("userId") Long userId, @Param("points") int points, @Param("pending") int pending);
 
+    @Modifying(flushAutomatically = true)
+    @Query("update UserProfile p set p.personalLevel = p.personalLevel + :levels where p.userId = :userId")
+    int addPersonalLevel(@Param("userId") Long userId, @Param("levels") int levels);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update UserProfile p set p.points = p.points + :points, p.personalLevel = p.personalLevel + :levels where p.userId = :userId")
+    int addPointsAndLevel(@Param("userId") Long userId, @Param("points") int points, @Param("levels") int levels);
+
+    @Query("select p.timeZone from UserProfile p where p.userId = :userId")
+    Optional<String> findTimeZone(@Param("userId") Long userId);
+}
@@ -0,0 +1,183 @@
+package floorida.example.floorida.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import floorida.example.floorida.entity.AiPlanCacheEntry;
+import floorida.example.floorida.repository.AiPlanCacheRepository;
+import floorida.example.floorida.service.AiPlanningService.AiFloor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 같은 목표/기간 길이의 AI 계획을 재사용하기 위한 캐시.
+ *
+ * 키는 정규화한 목표 문자열과 기간 일수이며, 단계는 시작일 기준 오프셋으로 저장해
+ * 어떤 시작일에도 다시 배치(rebase)할 수 있습니다.
+ * 메모리(Caffeine)를 먼저 보고, persist가 켜져 있으면 ai_plan_cache 테이블을 2차로 조회합니다.
+ */
+@Component
+public class AiPlanCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /** 시작일 기준 상대 단계 */
+    record Step(int offset, String title) {}
+
+    private final Cache<String, List<Step>> cache;
+    private final AiPlanCacheRepository repository;
+    private final boolean enabled;
+    private final boolean persist;
+    private final Duration ttl;
+    private final Counter hits;
+    private final Counter misses;
+    private final ObjectMapper om = new ObjectMapper();
+
+    public AiPlanCache(AiPlanCacheRepository repository,
+                       MeterRegistry meterRegistry,
+                       @Value("${floorida.ai.plan-cache.enabled:true}") boolean enabled,
+                       @Value("${floorida.ai.plan-cache.persist:true}") boolean persist,
+                       @Value("${floorida.ai.plan-cache.max-size:5000}") long maxSize,
+                       @Value("${floorida.ai.plan-cache.ttl:P7D}") Duration ttl) {
+        this.repository = repository;
+        this.enabled = enabled;
+        this.persist = persist;
+        this.ttl = ttl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.hits = Counter.builder("floorida.ai.plan.cache")
+                .description("AI plan cache lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("floorida.ai.plan.cache")
+                .description("AI plan cache lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /** 캐시된 계획을 start 기준으로 다시 배치해 반환 */
+    public Optional<List<AiFloor>> get(String goal, LocalDate start, LocalDate end) {
+        if (!enabled) return Optional.empty();
+        String normalized = normalize(goal);
+        int days = dayCount(start, end);
+        String key = key(normalized, days);
+
+        List<Step> steps = cache.getIfPresent(key);
+        if (steps == null && persist) {
+            steps = loadPersisted(key);
+            if (steps != null) cache.put(key, steps);
+        }
+        if (steps == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        List<AiFloor> floors = new ArrayList<>(steps.size());
+        for (Step step : steps) {
+            floors.add(new AiFloor(step.title(), start.plusDays(step.offset())));
+        }
+        return Optional.of(floors);
+    }
+
+    /** LLM이 만든 계획만 저장한다 (fallback 계획은 저장하지 않음) */
+    public void put(String goal, LocalDate start, LocalDate end, List<AiFloor> floors) {
+        if (!enabled || floors.isEmpty()) return;
+        String normalized = normalize(goal);
+        int days = dayCount(start, end);
+        String key = key(normalized, days);
+
+        List<Step> steps = new ArrayList<>(floors.size());
+        for (AiFloor floor : floors) {
+            steps.add(new Step((int) ChronoUnit.DAYS.between(start, floor.date()), floor.title()));
+        }
+        List<Step> immutable = List.copyOf(steps);
+        cache.put(key, immutable);
+        if (persist) {
+            store(key, normalized, days, immutable);
+        }
+    }
+
+    public long hitCount() {
+        return (long) hits.count();
+    }
+
+    public long missCount() {
+        return (long) misses.count();
+    }
+
+    /** 메모리 캐시만 비운다 (테이블은 유지) */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private List<Step> loadPersisted(String key) {
+        try {
+            AiPlanCacheEntry entry = repository.findById(key).orElse(null);
+            if (entry == null || entry.getCreatedAt().plus(ttl).isBefore(Instant.now())) {
+                return null;
+            }
+            return List.copyOf(om.readValue(entry.getSteps(), new TypeReference<List<Step>>() {}));
+        } catch (DataAccessException | JsonProcessingException e) {
+            // 캐시는 최선 노력: 실패하면 LLM을 호출한다
+            return null;
+        }
+    }
+
+    private void store(String key, String normalized, int days, List<Step> steps) {
+        try {
+            AiPlanCacheEntry entry = new AiPlanCacheEntry();
+            entry.setCacheKey(key);
+            entry.setNormalizedGoal(normalized.length() > 1000 ? normalized.substring(0, 1000) : normalized);
+            entry.setDayCount(days);
+            entry.setSteps(om.writeValueAsString(steps));
+            entry.setCreatedAt(Instant.now());
+            repository.save(entry);
+        } catch (DataAccessException | JsonProcessingException ignore) {
+            // 메모리 캐시에는 이미 들어가 있으므로 무시
+        }
+    }
+
+    /** 유니코드 호환 정규화(NFKC) + 소문자 + 공백 정리 */
+    static String normalize(String goal) {
+        String s = Normalizer.normalize(goal == null ? "" : goal, Normalizer.Form.NFKC);
+        return WHITESPACE.matcher(s.strip().toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+
+    static int dayCount(LocalDate start, LocalDate end) {
+        return (int) ChronoUnit.DAYS.between(start, end) + 1;
+    }
+
+    static String key(String normalizedGoal, int days) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((normalizedGoal + '\u0000' + days).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,104 +1,284 @@
 package floorida.example.floorida.service;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import floorida.example.floorida.config.OpenAiProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 @Service
 public class AiPlanningService {
 
-    @Value("${OPENAI_API_KEY:}")
-    private String openAiKey; // never log this
+    private final String openAiKey; // never log this
+    private final OpenAiProperties props;
+    private final HttpClient httpClient;
+    private final ScheduledExecutorService streamWatchdog;
+    private final AiPlanCache planCache;
+    private final Map<Outcome, Timer> latency = new EnumMap<>(Outcome.class);
 
     private final ObjectMapper om = new ObjectMapper();
 
     public record AiFloor(String title, LocalDate date) {}
 
+    /** 스트리밍 중 Floor 일부를 전달한 뒤 LLM 응답이 끊긴 경우 (일정은 저장하지 않음) */
+    public static class IncompletePlanException extends RuntimeException {
+        public IncompletePlanException(int sentFloors) {
+            super("AI plan was cut off after " + sentFloors + " floors; nothing was saved. Please try again.");
+        }
+    }
+
+    /** LLM 호출 결과 분류 (지연시간 히스토그램 태그) */
+    enum Outcome {
+        SUCCESS, FALLBACK, TIMEOUT, PARSE_ERROR;
+
+        String tag() {
+            return name().toLowerCase();
+        }
+    }
+
+    public AiPlanningService(@Value("${OPENAI_API_KEY:}") String openAiKey,
+                             OpenAiProperties props,
+                             HttpClient openAiHttpClient,
+                             @Qualifier("openAiStreamWatchdog") ScheduledExecutorService openAiStreamWatchdog,
+                             AiPlanCache planCache,
+                             MeterRegistry meterRegistry) {
+        this.openAiKey = openAiKey;
+        this.props = props;
+        this.httpClient = openAiHttpClient;
+        this.streamWatchdog = openAiStreamWatchdog;
+        this.planCache = planCache;
+        for (Outcome outcome : Outcome.values()) {
+            latency.put(outcome, Timer.builder("floorida.ai.plan")
+                    .description("LLM planning latency by outcome")
+                    .tag("outcome", outcome.tag())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
     public List<AiFloor> plan(String goal, LocalDate start, LocalDate end) {
+        try (Stream<AiFloor> floors = planFloors(goal, start, end)) {
+            return floors.toList();
+        }
+    }
+
+    /**
+     * 계획을 스트림으로 반환합니다.
+     * 기본(fallback) 계획은 기간 전체를 미리 만들지 않고 소비하는 만큼만 생성합니다.
+     */
+    public Stream<AiFloor> planFloors(String goal, LocalDate start, LocalDate end) {
         // If no key is present, fallback to deterministic local logic
         if (openAiKey == null || openAiKey.isBlank()) {
             return fallbackPlan(goal, start, end);
         }
+        Optional<List<AiFloor>> cached = planCache.get(goal, start, end);
+        if (cached.isPresent()) {
+            return cached.get().stream();
+        }
+        long startedAt = System.nanoTime();
+        Outcome outcome = Outcome.FALLBACK;
         try {
-            String prompt = "You're a planning assistant. Split the user's goal into a set of daily steps between the given dates. Return ONLY strict JSON with the following shape: {\"floors\":[{\"title\":string,\"date\":\"YYYY-MM-DD\"}...]}. Dates must be within the inclusive range and sorted.";
-
-            ObjectNode body = om.createObjectNode();
-            body.put("model", "gpt-4o-mini");
-            var messages = om.createArrayNode();
-            messages.add(om.createObjectNode().put("role", "system").put("content", prompt));
-            messages.add(om.createObjectNode().put("role", "user").put("content",
-                    String.format("goal: %s\nstart: %s\nend: %s", goal, start, end)));
-            body.set("messages", messages);
-            body.put("temperature", 0.2);
-
-            HttpRequest req = HttpRequest.newBuilder()
-                    .uri(URI.create("https://api.openai.com/v1/chat/completions"))
-                    .header("Authorization", "Bearer " + openAiKey)
-                    .header("Content-Type", "application/json")
-                    .POST(HttpRequest.BodyPublishers.ofString(body.toString(), StandardCharsets.UTF_8))
-                    .build();
-
-            HttpClient client = HttpClient.newHttpClient();
-            HttpResponse<String> resp = client.send(req, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            HttpResponse<String> resp = httpClient.send(buildRequest(goal, start, end, false),
+                    HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
 
             if (resp.statusCode() >= 200 && resp.statusCode() < 300) {
                 JsonNode root = om.readTree(resp.body());
                 String content = root.path("choices").path(0).path("message").path("content").asText("");
-                if (content == null || content.isBlank()) {
-                    return fallbackPlan(goal, start, end);
-                }
-                // content should be JSON; if it contains backticks or code fences, strip quickly
-                String cleaned = content.strip();
-                if (cleaned.startsWith("```)")) {
-                    // rare malformed fence; ignore
-                }
-                if (cleaned.startsWith("```")) {
-                    int idx = cleaned.indexOf('\n');
-                    int last = cleaned.lastIndexOf("```");
-                    if (idx > 0 && last > idx) cleaned = cleaned.substring(idx + 1, last);
+                if (content != null && !content.isBlank()) {
+                    List<AiFloor> result = parseFloors(content, start, end);
+                    if (!result.isEmpty()) {
+                        outcome = Outcome.SUCCESS;
+                        planCache.put(goal, start, end, result);
+                        return result.stream();
+                    }
                 }
+            }
+        } catch (HttpTimeoutException e) {
+            outcome = Outcome.TIMEOUT;
+        } catch (JsonProcessingException | DateTimeParseException e) {
+            outcome = Outcome.PARSE_ERROR;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception ignore) {
+            // fall through to fallback
+        } finally {
+            latency.get(outcome).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        return fallbackPlan(goal, start, end);
+    }
 
-                JsonNode json = om.readTree(cleaned);
-                List<AiFloor> result = new ArrayList<>();
-                for (JsonNode f : json.path("floors")) {
-                    String title = f.path("title").asText("");
-                    String dateStr = f.path("date").asText("");
-                    if (!title.isBlank() && !dateStr.isBlank()) {
-                        LocalDate d = LocalDate.parse(dateStr);
-                        if (!d.isBefore(start) && !d.isAfter(end)) {
-                            result.add(new AiFloor(title, d));
-                        }
+    /**
+     * 스트리밍 모드 계획 생성.
+     *
+     * LLM 응답을 토큰 스트림(SSE)으로 받아 Floor가 하나 완성될 때마다 onFloor로 전달하고,
+     * 저장할 Floor 스트림을 반환합니다. 캐시 적중이나 키 없음/실패 시의 기본 계획도
+     * 반환 전에 모두 전달하므로, 저장 트랜잭션 안에서는 onFloor가 호출되지 않습니다.
+     *
+     * 본문 읽기는 데이터 사이 대기 시간과 전체 시간으로 제한합니다.
+     * Floor를 이미 전달한 뒤 응답이 끊기면(제한 시간 초과, JSON이 닫히기 전 종료) 잘린 계획을
+     * 저장하지 않도록 IncompletePlanException을 던집니다.
+     */
+    public Stream<AiFloor> planStreaming(String goal, LocalDate start, LocalDate end, Consumer<AiFloor> onFloor) {
+        if (openAiKey == null || openAiKey.isBlank()) {
+            return sendAll(fallbackPlan(goal, start, end).toList(), onFloor);
+        }
+        Optional<List<AiFloor>> cached = planCache.get(goal, start, end);
+        if (cached.isPresent()) {
+            return sendAll(cached.get(), onFloor);
+        }
+        long startedAt = System.nanoTime();
+        Outcome outcome = Outcome.FALLBACK;
+        List<AiFloor> result = new ArrayList<>();
+        try {
+            HttpResponse<InputStream> resp = httpClient.send(buildRequest(goal, start, end, true),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = resp.body();
+                 StreamReadDeadline deadline = new StreamReadDeadline(body, streamWatchdog,
+                         props.getStreamIdleTimeout(), props.getStreamTotalTimeout())) {
+                if (resp.statusCode() >= 200 && resp.statusCode() < 300) {
+                    StreamingFloorParser parser = new StreamingFloorParser(start, end);
+                    try {
+                        readFloors(new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)),
+                                parser, deadline, floor -> {
+                                    result.add(floor);
+                                    onFloor.accept(floor);
+                                });
+                    } catch (IOException e) {
+                        // 제한 시간 초과로 본문이 닫히면 읽기가 예외나 EOF로 끝난다
+                        if (!deadline.isExpired()) throw e;
+                    }
+                    if (parser.isFinished() && !result.isEmpty()) {
+                        outcome = Outcome.SUCCESS;
+                        planCache.put(goal, start, end, result);
+                        return result.stream();
+                    }
+                    if (deadline.isExpired()) {
+                        throw new HttpTimeoutException("LLM stream read timed out");
                     }
                 }
-                if (!result.isEmpty()) return result;
             }
+        } catch (HttpTimeoutException e) {
+            outcome = Outcome.TIMEOUT;
+        } catch (JsonProcessingException e) {
+            outcome = Outcome.PARSE_ERROR;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         } catch (Exception ignore) {
             // fall through to fallback
+        } finally {
+            latency.get(outcome).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
         }
-        return fallbackPlan(goal, start, end);
+        // 이미 일부 Floor를 보냈다면 기본 계획으로 바꾸지도, 잘린 계획을 저장하지도 않는다
+        if (!result.isEmpty()) {
+            throw new IncompletePlanException(result.size());
+        }
+        return sendAll(fallbackPlan(goal, start, end).toList(), onFloor);
+    }
+
+    /** SSE 줄 단위로 읽어 완성된 Floor를 전달 (JSON 루트가 닫히거나 [DONE]/EOF까지) */
+    private void readFloors(BufferedReader reader, StreamingFloorParser parser, StreamReadDeadline deadline,
+                            Consumer<AiFloor> onFloor) throws IOException {
+        String line;
+        while (!parser.isFinished() && (line = reader.readLine()) != null) {
+            deadline.progress();
+            if (!line.startsWith("data:")) continue;
+            String data = line.substring(5).strip();
+            if ("[DONE]".equals(data)) break;
+            String delta = om.readTree(data).path("choices").path(0).path("delta").path("content").asText("");
+            parser.feed(delta).forEach(onFloor);
+        }
+    }
+
+    private static Stream<AiFloor> sendAll(List<AiFloor> floors, Consumer<AiFloor> onFloor) {
+        floors.forEach(onFloor);
+        return floors.stream();
+    }
+
+    private HttpRequest buildRequest(String goal, LocalDate start, LocalDate end, boolean stream) {
+        String prompt = "You're a planning assistant. Split the user's goal into a set of daily steps between the given dates. Return ONLY strict JSON with the following shape: {\"floors\":[{\"title\":string,\"date\":\"YYYY-MM-DD\"}...]}. Dates must be within the inclusive range and sorted.";
+
+        ObjectNode body = om.createObjectNode();
+        body.put("model", props.getModel());
+        var messages = om.createArrayNode();
+        messages.add(om.createObjectNode().put("role", "system").put("content", prompt));
+        messages.add(om.createObjectNode().put("role", "user").put("content",
+                String.format("goal: %s\nstart: %s\nend: %s", goal, start, end)));
+        body.set("messages", messages);
+        body.put("temperature", 0.2);
+        if (stream) body.put("stream", true);
+
+        return HttpRequest.newBuilder()
+                .uri(URI.create(props.getBaseUrl() + "/v1/chat/completions"))
+                .timeout(props.getReadTimeout())
+                .header("Authorization", "Bearer " + openAiKey)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString(), StandardCharsets.UTF_8))
+                .build();
+    }
+
+    // content should be JSON; if it contains backticks or code fences, strip quickly
+    static String stripCodeFence(String content) {
+        String cleaned = content.strip();
+        if (cleaned.startsWith("```")) {
+            int idx = cleaned.indexOf('\n');
+            int last = cleaned.lastIndexOf("```");
+            if (idx > 0 && last > idx) cleaned = cleaned.substring(idx + 1, last);
+        }
+        return cleaned;
     }
 
-    private List<AiFloor> fallbackPlan(String goal, LocalDate start, LocalDate end) {
+    /** LLM 응답 본문(content)에서 기간 내 Floor만 추출 */
+    List<AiFloor> parseFloors(String content, LocalDate start, LocalDate end) throws JsonProcessingException {
+        JsonNode json = om.readTree(stripCodeFence(content));
         List<AiFloor> result = new ArrayList<>();
-        LocalDate cursor = start;
-        int idx = 1;
-        while (!cursor.isAfter(end)) {
-            result.add(new AiFloor(goal + " - 단계 " + idx, cursor));
-            cursor = cursor.plusDays(1);
-            idx++;
+        for (JsonNode f : json.path("floors")) {
+            String title = f.path("title").asText("");
+            String dateStr = f.path("date").asText("");
+            if (!title.isBlank() && !dateStr.isBlank()) {
+                LocalDate d = LocalDate.parse(dateStr);
+                if (!d.isBefore(start) && !d.isAfter(end)) {
+                    result.add(new AiFloor(title, d));
+                }
+            }
         }
         return result;
     }
+
+    // 하루에 한 단계씩, 소비하는 만큼만 생성
+    Stream<AiFloor> fallbackPlan(String goal, LocalDate start, LocalDate end) {
+        long days = ChronoUnit.DAYS.between(start, end) + 1;
+        return LongStream.range(0, days)
+                .mapToObj(i -> new AiFloor(goal + " - 단계 " + (i + 1), start.plusDays(i)));
+    }
 }
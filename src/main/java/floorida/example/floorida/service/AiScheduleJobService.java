@@ -0,0 +1,136 @@
+package floorida.example.floorida.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import floorida.example.floorida.config.jwt.AuthenticatedUser;
+import floorida.example.floorida.dto.AiScheduleJobResponse;
+import floorida.example.floorida.dto.AiScheduleRequest;
+import floorida.example.floorida.dto.ScheduleResponse;
+
+/**
+ * 비동기 AI 일정 생성 작업.
+ *
+ * 요청 즉시 작업 ID를 돌려주고, 계획 생성은 전용 실행기에서 트랜잭션 밖으로 수행합니다.
+ * 작업 상태는 메모리에 일정 시간 보관되며 폴링/롱폴링으로 조회합니다.
+ */
+@Service
+public class AiScheduleJobService {
+
+    private final ScheduleService scheduleService;
+    private final CurrentUserService currentUserService;
+    private final TaskExecutor aiPlanningExecutor;
+    private final Cache<String, Job> jobs;
+
+    public AiScheduleJobService(ScheduleService scheduleService,
+                                CurrentUserService currentUserService,
+                                @Qualifier("aiPlanningExecutor") TaskExecutor aiPlanningExecutor,
+                                @Value("${floorida.ai.jobs.retention:PT1H}") Duration retention,
+                                @Value("${floorida.ai.jobs.max-size:10000}") long maxSize) {
+        this.scheduleService = scheduleService;
+        this.currentUserService = currentUserService;
+        this.aiPlanningExecutor = aiPlanningExecutor;
+        this.jobs = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(retention)
+                .build();
+    }
+
+    /**
+     * 작업을 접수합니다. 날짜 검증은 접수 시점에 수행하고,
+     * 실행기 큐가 가득 차면 TaskRejectedException이 발생합니다.
+     */
+    public AiScheduleJobResponse submit(AiScheduleRequest req) {
+        AuthenticatedUser user = currentUserService.getCurrentPrincipal()
+                .orElseThrow(() -> new IllegalStateException("Unauthenticated"));
+        scheduleService.validateAiRequest(req);
+
+        Job job = new Job(UUID.randomUUID().toString(), user.userId());
+        jobs.put(job.id, job);
+        try {
+            aiPlanningExecutor.execute(() -> run(job, req));
+        } catch (RuntimeException rejected) {
+            jobs.invalidate(job.id);
+            throw rejected;
+        }
+        return job.view();
+    }
+
+    /** 현재 상태 조회 (본인 작업만) */
+    public Optional<AiScheduleJobResponse> find(String jobId) {
+        return findOwnJob(jobId).map(Job::view);
+    }
+
+    /**
+     * 작업이 끝나거나 대기 시간이 지나면 완료되는 future를 반환합니다 (롱폴링).
+     * 요청 스레드를 붙잡지 않도록 컨트롤러에서 그대로 비동기 응답으로 사용합니다.
+     */
+    public Optional<CompletableFuture<AiScheduleJobResponse>> await(String jobId, Duration wait) {
+        return findOwnJob(jobId).map(job -> job.done
+                .thenApply(ignored -> job.view())
+                .completeOnTimeout(null, wait.toMillis(), TimeUnit.MILLISECONDS)
+                .thenApply(view -> view != null ? view : job.view()));
+    }
+
+    private Optional<Job> findOwnJob(String jobId) {
+        AuthenticatedUser user = currentUserService.getCurrentPrincipal()
+                .orElseThrow(() -> new IllegalStateException("Unauthenticated"));
+        return Optional.ofNullable(jobs.getIfPresent(jobId))
+                .filter(job -> job.userId.equals(user.userId()));
+    }
+
+    private void run(Job job, AiScheduleRequest req) {
+        job.status = AiScheduleJobResponse.Status.RUNNING;
+        try {
+            ScheduleResponse schedule = scheduleService.planAndPersist(job.userId, req);
+            job.completedAt = Instant.now();
+            job.schedule = schedule;
+            job.status = AiScheduleJobResponse.Status.SUCCEEDED;
+        } catch (RuntimeException e) {
+            job.completedAt = Instant.now();
+            job.error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            job.status = AiScheduleJobResponse.Status.FAILED;
+        } finally {
+            job.done.complete(null);
+        }
+    }
+
+    private static final class Job {
+        private final String id;
+        private final Long userId;
+        private final Instant createdAt = Instant.now();
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private volatile AiScheduleJobResponse.Status status = AiScheduleJobResponse.Status.PENDING;
+        private volatile Instant completedAt;
+        private volatile ScheduleResponse schedule;
+        private volatile String error;
+
+        private Job(String id, Long userId) {
+            this.id = id;
+            this.userId = userId;
+        }
+
+        private AiScheduleJobResponse view() {
+            return AiScheduleJobResponse.builder()
+                    .jobId(id)
+                    .status(status)
+                    .createdAt(createdAt)
+                    .completedAt(completedAt)
+                    .schedule(schedule)
+                    .error(error)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package floorida.example.floorida.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import floorida.example.floorida.config.jwt.AuthenticatedUser;
+import floorida.example.floorida.dto.AiFloorEvent;
+import floorida.example.floorida.dto.AiScheduleRequest;
+import floorida.example.floorida.dto.ScheduleResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * SSE로 Floor를 하나씩 전달하는 AI 일정 생성.
+ *
+ * 이벤트 순서: floor* → schedule (저장된 일정) 또는 error.
+ * LLM 응답이 Floor 일부를 보낸 뒤 끊기면 일정을 저장하지 않고 error로 끝냅니다.
+ * 요청 수신부터 첫 floor 이벤트까지의 시간을 floorida.ai.stream.first-floor 타이머로 기록합니다.
+ */
+@Service
+public class AiScheduleStreamService {
+
+    private static final Logger log = LoggerFactory.getLogger(AiScheduleStreamService.class);
+
+    private final ScheduleService scheduleService;
+    private final CurrentUserService currentUserService;
+    private final TaskExecutor aiPlanningExecutor;
+    private final Duration timeout;
+    private final Timer timeToFirstFloor;
+
+    public AiScheduleStreamService(ScheduleService scheduleService,
+                                   CurrentUserService currentUserService,
+                                   @Qualifier("aiPlanningExecutor") TaskExecutor aiPlanningExecutor,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${floorida.ai.stream.timeout:PT2M}") Duration timeout) {
+        this.scheduleService = scheduleService;
+        this.currentUserService = currentUserService;
+        this.aiPlanningExecutor = aiPlanningExecutor;
+        this.timeout = timeout;
+        this.timeToFirstFloor = Timer.builder("floorida.ai.stream.first-floor")
+                .description("Time from stream request to the first floor event")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 스트림을 엽니다. 날짜 검증은 즉시 수행하고(IllegalArgumentException),
+     * 실행기 큐가 가득 차면 TaskRejectedException이 발생합니다.
+     */
+    public SseEmitter open(AiScheduleRequest req) {
+        AuthenticatedUser user = currentUserService.getCurrentPrincipal()
+                .orElseThrow(() -> new IllegalStateException("Unauthenticated"));
+        scheduleService.validateAiRequest(req);
+
+        long requestedAt = System.nanoTime();
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        aiPlanningExecutor.execute(() -> run(emitter, user.userId(), req, requestedAt));
+        return emitter;
+    }
+
+    private void run(SseEmitter emitter, Long userId, AiScheduleRequest req, long requestedAt) {
+        AtomicInteger index = new AtomicInteger();
+        // 클라이언트가 연결을 끊어도 계획 생성과 저장은 끝까지 진행한다
+        AtomicBoolean connected = new AtomicBoolean(true);
+        try {
+            ScheduleResponse schedule = scheduleService.planAndPersistStreaming(userId, req, floor -> {
+                int i = index.getAndIncrement();
+                if (i == 0) {
+                    timeToFirstFloor.record(System.nanoTime() - requestedAt, TimeUnit.NANOSECONDS);
+                }
+                send(emitter, connected, SseEmitter.event()
+                        .name("floor")
+                        .id(Integer.toString(i))
+                        .data(AiFloorEvent.builder().index(i).title(floor.title()).date(floor.date()).build()));
+            });
+            send(emitter, connected, SseEmitter.event().name("schedule").data(schedule));
+            emitter.complete();
+        } catch (AiPlanningService.IncompletePlanException | IllegalArgumentException e) {
+            fail(emitter, connected, e.getMessage());
+        } catch (RuntimeException e) {
+            // 내부 예외 메시지(SQL, 스택 정보 등)는 클라이언트에 보내지 않는다
+            log.error("AI schedule stream failed for user {}", userId, e);
+            fail(emitter, connected, "Failed to create schedule");
+        }
+    }
+
+    private static void fail(SseEmitter emitter, AtomicBoolean connected, String message) {
+        send(emitter, connected, SseEmitter.event().name("error").data(message));
+        emitter.complete();
+    }
+
+    private static void send(SseEmitter emitter, AtomicBoolean connected, SseEmitter.SseEventBuilder event) {
+        if (!connected.get()) return;
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            connected.set(false);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import floorida.example.floorida.entity.Character;
 import floorida.example.floorida.entity.User;
 import floorida.example.floorida.repository.CharacterRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +18,7 @@ public class CharacterService {
     private final CharacterRepository characterRepository;
     private final CurrentUserService currentUserService;
     private final AwsS3Properties awsS3Properties;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CharacterResponse getMyCharacter() {
@@ -61,5 +63,6 @@ public class CharacterService {
             .build();
         
         characterRepository.save(character);
+        eventPublisher.publishEvent(new UserDataChangedEvent(user.getUserId()));
     }
 }
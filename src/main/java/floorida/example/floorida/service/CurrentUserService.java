@@ -6,23 +6,41 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
+import floorida.example.floorida.config.jwt.AuthenticatedUser;
 import floorida.example.floorida.entity.User;
 import floorida.example.floorida.repository.UserRepository;
 
 @Component
 public class CurrentUserService {
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
-    public CurrentUserService(UserRepository userRepository) {
+    public CurrentUserService(UserRepository userRepository, UserPrincipalCache userPrincipalCache) {
         this.userRepository = userRepository;
+        this.userPrincipalCache = userPrincipalCache;
     }
 
-    public Optional<User> getCurrentUser() {
+    /**
+     * JWT 필터가 SecurityContext에 넣어 둔 principal을 반환합니다.
+     * (principal이 다른 타입이면 이메일로 캐시를 거쳐 조회)
+     */
+    public Optional<AuthenticatedUser> getCurrentPrincipal() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null || auth.getName() == null) {
             return Optional.empty();
         }
-        String email = auth.getName();
-        return userRepository.findByEmail(email);
+        if (auth.getPrincipal() instanceof AuthenticatedUser principal) {
+            userPrincipalCache.recordSavedLookup();
+            return Optional.of(principal);
+        }
+        return userPrincipalCache.resolve(auth.getName());
+    }
+
+    /**
+     * 연관관계 설정 등 엔티티가 필요한 경우에 사용합니다.
+     * SELECT 없이 userId 기반 참조(프록시)를 반환합니다.
+     */
+    public Optional<User> getCurrentUser() {
+        return getCurrentPrincipal().map(p -> userRepository.getReferenceById(p.userId()));
     }
 }
@@ -0,0 +1,157 @@
+package floorida.example.floorida.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import floorida.example.floorida.repository.FloorStatusRepository;
+
+/**
+ * 사용자별 Floor 완료 인덱스.
+ *
+ * floor_statuses를 사용자 단위로 한 번 읽어 압축 비트맵(Floor ID)과
+ * 일정별 완료 수로 보관하고, 이후 "완료 여부"와 "일정별 완료 수"를
+ * 추가 쿼리 없이 O(1)로 답합니다.
+ * 캐시 크기를 넘어 밀려난 사용자는 다음 접근 시 DB에서 다시 만들어집니다.
+ */
+@Component
+public class FloorCompletionIndex {
+
+    private final FloorStatusRepository floorStatusRepository;
+    private final Cache<Long, UserCompletions> byUser;
+
+    public FloorCompletionIndex(FloorStatusRepository floorStatusRepository,
+                                @Value("${floorida.completion-index.max-users:50000}") long maxUsers) {
+        this.floorStatusRepository = floorStatusRepository;
+        this.byUser = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .recordStats()
+                .build();
+    }
+
+    /** 사용자 인덱스 조회 (없으면 floor_statuses에서 구성) */
+    public UserCompletions forUser(Long userId) {
+        return byUser.get(userId, this::load);
+    }
+
+    public boolean isCompleted(Long userId, Long floorId) {
+        return forUser(userId).isCompleted(floorId);
+    }
+
+    public int completedCount(Long userId, Long scheduleId) {
+        return forUser(userId).completedCount(scheduleId);
+    }
+
+    /**
+     * 완료 기록을 인덱스에 반영합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영하여, 롤백된 완료가 남지 않게 합니다.
+     */
+    public void markCompleted(Long userId, Long floorId, Long scheduleId) {
+        afterCommit(() -> byUser.asMap().computeIfPresent(userId, (id, completions) -> {
+            completions.add(floorId, scheduleId);
+            return completions;
+        }));
+    }
+
+    /** 일정 삭제 등으로 인덱스가 어긋날 수 있을 때 사용자 인덱스를 버립니다. */
+    public void invalidate(Long userId) {
+        afterCommit(() -> byUser.invalidate(userId));
+    }
+
+    /** DB 기준으로 사용자 인덱스를 즉시 다시 만듭니다. */
+    public UserCompletions rebuild(Long userId) {
+        UserCompletions rebuilt = load(userId);
+        byUser.put(userId, rebuilt);
+        return rebuilt;
+    }
+
+    /** 현재 메모리에 올라와 있는 인덱스의 사용량 */
+    public MemoryReport memoryReport() {
+        long users = 0;
+        long completions = 0;
+        long bytes = 0;
+        for (UserCompletions c : byUser.asMap().values()) {
+            users++;
+            completions += c.size();
+            bytes += c.estimatedBytes();
+        }
+        return new MemoryReport(users, completions, bytes);
+    }
+
+    public Cache<Long, UserCompletions> getCache() {
+        return byUser;
+    }
+
+    private UserCompletions load(Long userId) {
+        UserCompletions completions = new UserCompletions();
+        List<FloorStatusRepository.CompletedFloor> rows = floorStatusRepository.findCompletedFloors(userId);
+        for (FloorStatusRepository.CompletedFloor row : rows) {
+            completions.add(row.getFloorId(), row.getScheduleId());
+        }
+        return completions;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    public record MemoryReport(long users, long completions, long bytes) {
+        /** 완료 10만 건당 사용 바이트 */
+        public long bytesPer100kCompletions() {
+            return completions == 0 ? 0 : bytes * 100_000 / completions;
+        }
+    }
+
+    /** 한 사용자의 완료 Floor 집합과 일정별 완료 수 */
+    public static final class UserCompletions {
+        // HashMap 엔트리 + 박싱된 Long/Integer 대략치
+        private static final int BYTES_PER_SCHEDULE_ENTRY = 64;
+
+        private final Roaring64Bitmap floors = new Roaring64Bitmap();
+        private final Map<Long, Integer> perSchedule = new HashMap<>();
+
+        synchronized void add(Long floorId, Long scheduleId) {
+            if (floors.contains(floorId)) {
+                return;
+            }
+            floors.addLong(floorId);
+            if (scheduleId != null) {
+                perSchedule.merge(scheduleId, 1, Integer::sum);
+            }
+        }
+
+        public synchronized boolean isCompleted(Long floorId) {
+            return floorId != null && floors.contains(floorId);
+        }
+
+        public synchronized int completedCount(Long scheduleId) {
+            return perSchedule.getOrDefault(scheduleId, 0);
+        }
+
+        public synchronized long size() {
+            return floors.getLongCardinality();
+        }
+
+        public synchronized long estimatedBytes() {
+            return floors.getLongSizeInBytes() + (long) perSchedule.size() * BYTES_PER_SCHEDULE_ENTRY;
+        }
+    }
+}
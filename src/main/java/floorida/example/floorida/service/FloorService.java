@@ -2,12 +2,28 @@ package floorida.example.floorida.service;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import floorida.example.floorida.config.jwt.AuthenticatedUser;
+import floorida.example.floorida.dto.FloorBatchCompleteResponse;
+import floorida.example.floorida.dto.FloorRangeResponse;
 import floorida.example.floorida.dto.FloorResponse;
 import floorida.example.floorida.entity.FloorPlan;
 import floorida.example.floorida.entity.FloorStatus;
@@ -17,44 +33,116 @@ import floorida.example.floorida.repository.FloorStatusRepository;
 
 @Service
 public class FloorService {
+    // Floor 하나 완료 시 보상
+    private static final int POINTS_PER_FLOOR = 10;
+    private static final int LEVELS_PER_FLOOR = 1;
+    // 동시 완료로 UNIQUE 위반이 나면 새 트랜잭션에서 다시 확인하는 최대 횟수
+    private static final int MAX_COMPLETE_ATTEMPTS = 3;
+
     private final FloorPlanRepository floorPlanRepository;
     private final FloorStatusRepository floorStatusRepository;
     private final CurrentUserService currentUserService;
     private final UserProfileService userProfileService;
+    private final FloorCompletionIndex floorCompletionIndex;
+    private final TodayViewCache todayViewCache;
+    private final UserTimeZones userTimeZones;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int rangeMaxDays;
 
     public FloorService(FloorPlanRepository floorPlanRepository,
                         FloorStatusRepository floorStatusRepository,
                         CurrentUserService currentUserService,
-                        UserProfileService userProfileService) {
+                        UserProfileService userProfileService,
+                        FloorCompletionIndex floorCompletionIndex,
+                        TodayViewCache todayViewCache,
+                        UserTimeZones userTimeZones,
+                        ApplicationEventPublisher eventPublisher,
+                        TransactionTemplate transactionTemplate,
+                        @Value("${floorida.floors.range-max-days:93}") int rangeMaxDays) {
         this.floorPlanRepository = floorPlanRepository;
         this.floorStatusRepository = floorStatusRepository;
         this.currentUserService = currentUserService;
         this.userProfileService = userProfileService;
+        this.floorCompletionIndex = floorCompletionIndex;
+        this.todayViewCache = todayViewCache;
+        this.userTimeZones = userTimeZones;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.rangeMaxDays = rangeMaxDays;
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 오늘 할 일 (사용자별 캐시에서 응답, 없을 때만 한 번의 쿼리)
+     * "오늘"은 사용자 시간대 기준이며, 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션을 열지 않습니다.
+     */
     public List<FloorResponse> getTodayFloors() {
-        User user = currentUserService.getCurrentUser()
+        AuthenticatedUser user = currentUserService.getCurrentPrincipal()
                 .orElseThrow(() -> new IllegalStateException("Unauthenticated"));
         
-        LocalDate today = LocalDate.now();
-        List<FloorPlan> floors = floorPlanRepository.findByCreatorUserIdAndScheduledDate(user.getUserId(), today);
-        
-        return floors.stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return todayViewCache.get(user.userId(), userTimeZones.today(user.userId()));
+    }
+
+    /** 로그인한 사용자 시간대 기준 오늘 날짜 */
+    public LocalDate todayOfCurrentUser() {
+        AuthenticatedUser user = currentUserService.getCurrentPrincipal()
+                .orElseThrow(() -> new IllegalStateException("Unauthenticated"));
+        return userTimeZones.today(user.userId());
     }
 
     @Transactional(readOnly = true)
     public List<FloorResponse> getFloorsByDate(LocalDate date) {
-        User user = currentUserService.getCurrentUser()
+        AuthenticatedUser user = currentUserService.getCurrentPrincipal()
                 .orElseThrow(() -> new IllegalStateException("Unauthenticated"));
         
-        List<FloorPlan> floors = floorPlanRepository.findByCreatorUserIdAndScheduledDate(user.getUserId(), date);
-        
-        return floors.stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return floorPlanRepository.findFloorResponses(user.userId(), date);
+    }
+
+    /**
+     * 캘린더용 기간 조회: 날짜별 Floor 수 / 완료 수 / 일정 색상을 한 번의 쿼리로 가져옵니다.
+     *
+     * expand=false 면 (날짜, 색상) 단위 GROUP BY 결과만 받아 날짜별로 합치고,
+     * expand=true 면 기간 내 Floor 목록을 한 번에 받아 같은 방식으로 집계합니다.
+     * Floor가 없는 날도 count 0으로 포함되어 응답 모양이 기간마다 일정합니다.
+     */
+    @Transactional(readOnly = true)
+    public FloorRangeResponse getFloorRange(LocalDate from, LocalDate to, boolean expand) {
+        AuthenticatedUser user = currentUserService.getCurrentPrincipal()
+                .orElseThrow(() -> new IllegalStateException("Unauthenticated"));
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new IllegalArgumentException("Invalid date range");
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > rangeMaxDays) {
+            throw new IllegalArgumentException("Date range too long (max " + rangeMaxDays + " days)");
+        }
+
+        Map<LocalDate, DayAccumulator> byDate = new TreeMap<>();
+        if (expand) {
+            for (FloorResponse floor : floorPlanRepository.findFloorResponsesBetween(user.userId(), from, to)) {
+                byDate.computeIfAbsent(floor.getScheduledDate(), d -> new DayAccumulator(true))
+                        .add(floor.getScheduleColor(), 1, Boolean.TRUE.equals(floor.getCompleted()) ? 1 : 0, floor);
+            }
+        } else {
+            for (FloorPlanRepository.DayColorCount row : floorPlanRepository.countByDayAndColor(user.userId(), from, to)) {
+                byDate.computeIfAbsent(row.getScheduledDate(), d -> new DayAccumulator(false))
+                        .add(row.getColor(), row.getFloorCount(), row.getCompletedCount(), null);
+            }
+        }
+
+        List<FloorRangeResponse.Day> days = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            DayAccumulator acc = byDate.get(date);
+            days.add(acc != null ? acc.toDay(date) : FloorRangeResponse.Day.builder()
+                    .date(date)
+                    .colors(List.of())
+                    .floors(expand ? List.of() : null)
+                    .build());
+        }
+        return FloorRangeResponse.builder()
+                .from(from)
+                .to(to)
+                .days(days)
+                .build();
     }
 
     /**
@@ -85,22 +173,116 @@ public class FloorService {
         status.setIsCompleted(true);
         status.setCompletedAt(Instant.now());
         floorStatusRepository.save(status);
+        floorCompletionIndex.markCompleted(user.getUserId(), floorId, scheduleIdOf(floor));
+
+        // 10코인 지급 + 개인 층수 +1 (오늘 할 일 하나 완료할 때마다 한 층 올라감)
+        userProfileService.applyCompletionRewards(user.getUserId(), POINTS_PER_FLOOR, LEVELS_PER_FLOOR);
+        eventPublisher.publishEvent(new UserDataChangedEvent(user.getUserId()));
+    }
 
-        // 10코인 지급
-        userProfileService.addPoints(user.getUserId(), 10);
+    /**
+     * 여러 Floor를 한 번에 완료 처리합니다.
+     *
+     * 소유권/중복 완료 여부를 각각 한 번의 쿼리로 확인하고,
+     * 완료 상태를 JDBC 배치 INSERT 한 번으로 저장한 뒤 합산된 보상을 프로필에 한 번만 반영합니다.
+     * 실패한 Floor가 있어도 나머지는 처리되며, 결과에 Floor별 처리 결과가 담깁니다.
+     *
+     * 동시에 같은 Floor를 완료한 요청이 있으면 UNIQUE (floor_id, user_id) 위반으로 트랜잭션이 깨지므로,
+     * 새 트랜잭션에서 다시 확인해 해당 Floor를 ALREADY_COMPLETED로 돌려줍니다.
+     */
+    public FloorBatchCompleteResponse completeFloors(List<Long> floorIds) {
+        AuthenticatedUser user = currentUserService.getCurrentPrincipal()
+                .orElseThrow(() -> new IllegalStateException("Unauthenticated"));
+        Set<Long> requested = new LinkedHashSet<>(floorIds);
 
-        // 개인 층수 +1 (오늘 할 일 하나 완료할 때마다 한 층 올라감)
-        userProfileService.incrementPersonalLevel(user.getUserId());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> completeFloorsOnce(user.userId(), requested));
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_COMPLETE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
     }
 
-    private FloorResponse toResponse(FloorPlan floor) {
-        return FloorResponse.builder()
-                .floorId(floor.getFloorId())
-                .scheduleId(floor.getSchedule().getScheduleId())
-                .scheduleTitle(floor.getSchedule().getTitle())
-                .scheduleColor(floor.getSchedule().getColor())
-                .floorTitle(floor.getTitle())
-                .scheduledDate(floor.getScheduledDate())
+    private FloorBatchCompleteResponse completeFloorsOnce(Long userId, Set<Long> requested) {
+        Map<Long, FloorPlan> floors = floorPlanRepository.findAllById(requested).stream()
+                .collect(Collectors.toMap(FloorPlan::getFloorId, Function.identity()));
+        Set<Long> alreadyCompleted = new HashSet<>(floorStatusRepository.findCompletedFloorIds(userId, requested));
+
+        List<FloorPlan> completed = new ArrayList<>();
+        List<FloorBatchCompleteResponse.Result> results = new ArrayList<>(requested.size());
+        for (Long floorId : requested) {
+            FloorPlan floor = floors.get(floorId);
+            FloorBatchCompleteResponse.Outcome outcome;
+            if (floor == null) {
+                outcome = FloorBatchCompleteResponse.Outcome.NOT_FOUND;
+            } else if (!floor.getCreatorUserId().equals(userId)) {
+                outcome = FloorBatchCompleteResponse.Outcome.NOT_AUTHORIZED;
+            } else if (alreadyCompleted.contains(floorId)) {
+                outcome = FloorBatchCompleteResponse.Outcome.ALREADY_COMPLETED;
+            } else {
+                completed.add(floor);
+                outcome = FloorBatchCompleteResponse.Outcome.COMPLETED;
+            }
+            results.add(FloorBatchCompleteResponse.Result.builder()
+                    .floorId(floorId)
+                    .outcome(outcome)
+                    .build());
+        }
+
+        int pointsAwarded = completed.size() * POINTS_PER_FLOOR;
+        if (!completed.isEmpty()) {
+            floorStatusRepository.insertCompleted(userId,
+                    completed.stream().map(FloorPlan::getFloorId).toList(), Instant.now());
+            for (FloorPlan floor : completed) {
+                floorCompletionIndex.markCompleted(userId, floor.getFloorId(), scheduleIdOf(floor));
+            }
+            userProfileService.applyCompletionRewards(userId, pointsAwarded, completed.size() * LEVELS_PER_FLOOR);
+            eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+        }
+
+        return FloorBatchCompleteResponse.builder()
+                .completedCount(completed.size())
+                .pointsAwarded(pointsAwarded)
+                .results(results)
                 .build();
     }
+
+    private static final class DayAccumulator {
+        private final Set<String> colors = new TreeSet<>();
+        private final List<FloorResponse> floors;
+        private long floorCount;
+        private long completedCount;
+
+        DayAccumulator(boolean expand) {
+            this.floors = expand ? new ArrayList<>() : null;
+        }
+
+        void add(String color, long floors, long completed, FloorResponse floor) {
+            if (color != null) {
+                colors.add(color);
+            }
+            floorCount += floors;
+            completedCount += completed;
+            if (floor != null) {
+                this.floors.add(floor);
+            }
+        }
+
+        FloorRangeResponse.Day toDay(LocalDate date) {
+            return FloorRangeResponse.Day.builder()
+                    .date(date)
+                    .floorCount((int) floorCount)
+                    .completedCount((int) completedCount)
+                    .colors(List.copyOf(colors))
+                    .floors(floors)
+                    .build();
+        }
+    }
+
+    private static Long scheduleIdOf(FloorPlan floor) {
+        return floor.getSchedule() != null ? floor.getSchedule().getScheduleId() : null;
+    }
 }
@@ -2,26 +2,39 @@ package floorida.example.floorida.service;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 import javax.crypto.SecretKey;
 
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import floorida.example.floorida.config.JwtProperties;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 @Service
 public class JwtService {
 
     private final SecretKey key;
     private final long expirationMillis;
+    // JwtParser는 불변/thread-safe 이므로 한 번만 만들어 재사용
+    private final JwtParser parser;
+    // 토큰 다이제스트 → 검증된 Claims. 각 항목은 토큰의 exp 시각에 만료된다. (null이면 캐시 비활성)
+    private final Cache<String, Claims> verifiedTokens;
 
-    public JwtService(JwtProperties props) {
+    public JwtService(JwtProperties props, MeterRegistry meterRegistry) {
         // 시크릿이 Base64일 수도 평문일 수도 있으므로 안전하게 처리하고,
         // 항상 256bit 키로 파생하여 HMAC-SHA256 요구사항을 만족시킨다.
         byte[] rawSecretBytes;
@@ -45,6 +58,20 @@ public class JwtService {
 
         this.key = Keys.hmacShaKeyFor(keyMaterial);
         this.expirationMillis = props.getExpiration();
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedTokens = props.getCacheMaxSize() > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(props.getCacheMaxSize())
+                        .expireAfter(new ExpiresAtClaim())
+                        .recordStats()
+                        .build()
+                : null;
+        if (verifiedTokens != null) {
+            // 적중/미스/제거 수를 cache.* 메트릭(cache=jwt.verified)으로 노출
+            CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified");
+        }
     }
 
     public String generateToken(String subjectEmail) {
@@ -58,11 +85,51 @@ public class JwtService {
     }
 
     public String extractSubject(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
+        return verifiedClaims(token).getSubject();
+    }
+
+    private Claims verifiedClaims(String token) {
+        if (verifiedTokens == null) {
+            return parser.parseClaimsJws(token).getBody();
+        }
+        String digest = digest(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+        // 서명/만료 검증 실패 시 예외가 그대로 전파되고, 캐시에 들어가지 않는다
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        verifiedTokens.put(digest, claims);
+        return claims;
+    }
+
+    // 원본 토큰 대신 SHA-256 다이제스트를 키로 사용해 메모리에 토큰 자체를 보관하지 않는다
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /** 각 캐시 항목을 토큰의 exp 시각에 만료시킨다. */
+    private final class ExpiresAtClaim implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date exp = claims.getExpiration();
+            long remainingMillis = exp != null ? exp.getTime() - System.currentTimeMillis() : expirationMillis;
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
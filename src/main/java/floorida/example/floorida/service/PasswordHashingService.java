@@ -0,0 +1,122 @@
+package floorida.example.floorida.service;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 비밀번호 해시/검증을 전용 실행기(passwordHashingExecutor)에서 수행합니다.
+ *
+ * BCrypt는 요청 하나에 수십~수백 ms의 CPU를 쓰므로, 가입/로그인이 몰릴 때 요청 스레드에서 바로 돌리면
+ * 가벼운 조회까지 CPU를 뺏깁니다. 동시에 해시하는 수를 실행기 크기로 묶고,
+ * 대기열까지 가득 차면 TaskRejectedException으로 바로 거절합니다 (컨트롤러에서 429).
+ */
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final AsyncTaskExecutor executor;
+    private final int strength;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rehashed;
+    private final Counter rehashSkipped;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Qualifier("passwordHashingExecutor") AsyncTaskExecutor executor,
+                                  @Value("${floorida.password.bcrypt-strength:10}") int strength,
+                                  MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.strength = strength;
+        this.encodeTimer = Timer.builder("floorida.password.hash")
+                .description("Password hashing time on the hashing executor (excluding queue wait)")
+                .tag("op", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("floorida.password.hash")
+                .description("Password hashing time on the hashing executor (excluding queue wait)")
+                .tag("op", "matches")
+                .register(meterRegistry);
+        this.rehashed = Counter.builder("floorida.password.rehashed")
+                .description("Stored hashes upgraded to the configured BCrypt strength on login")
+                .register(meterRegistry);
+        this.rehashSkipped = Counter.builder("floorida.password.rehash.skipped")
+                .description("Hash upgrades skipped on login because the hashing executor was full")
+                .register(meterRegistry);
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return await(executor.submit(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword))));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        Callable<Boolean> task = () -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+        return await(executor.submit(task));
+    }
+
+    /** 저장된 해시의 BCrypt 강도가 설정값과 다르면 true (로그인 성공 시 다시 해시) */
+    public boolean needsRehash(String encodedPassword) {
+        Integer cost = bcryptCost(encodedPassword);
+        return cost == null || cost != strength;
+    }
+
+    /**
+     * 검증에 성공한 비밀번호의 저장 해시가 현재 강도와 다르면 새 강도로 다시 해시해 돌려줍니다.
+     * (강도를 올리거나 내린 뒤 사용자가 로그인할 때마다 점진적으로 교체)
+     * 교체는 선택 사항이라, 실행기가 가득 차 있으면 거절하지 않고 건너뜁니다. (다음 로그인 때 다시 시도)
+     */
+    public Optional<String> upgradedHash(CharSequence rawPassword, String encodedPassword) {
+        if (!needsRehash(encodedPassword)) {
+            return Optional.empty();
+        }
+        String upgraded;
+        try {
+            upgraded = encode(rawPassword);
+        } catch (TaskRejectedException e) {
+            rehashSkipped.increment();
+            return Optional.empty();
+        }
+        rehashed.increment();
+        return Optional.of(upgraded);
+    }
+
+    /** "$2a$10$..." 형식에서 강도(10)를 읽습니다. BCrypt 형식이 아니면 null */
+    static Integer bcryptCost(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$'
+                || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+            return null;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,516 @@
+package floorida.example.floorida.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Floor 완료 보상(포인트 / 개인 층수)의 write-behind 버퍼.
+ *
+ * floorida.rewards.write-behind.enabled=true 이면 보상을 요청 트랜잭션에서 user_profiles에 바로 UPDATE하지 않고
+ * 로컬 저널에 기록(fsync)한 뒤 사용자별로 합산해 두었다가, flush-interval 마다
+ * 합산된 변화량을 사용자 ID 순서의 배치 UPDATE 한 번으로 반영합니다.
+ * 완료가 몰리는 시간대에 같은 프로필 행의 잠금을 요청 트랜잭션끼리 기다리지 않게 하기 위함입니다.
+ *
+ * - 저널 레코드마다 순번이 붙고, 배치 UPDATE와 같은 트랜잭션에서 반영한 마지막 순번을
+ *   profile_reward_checkpoints에 기록합니다. 재시작하면 그 이후 레코드만 다시 적용하므로 유실/중복이 없습니다.
+ * - 요청 트랜잭션이 커밋되기 직전에 기록하고, 롤백되면 상쇄 레코드를 남깁니다.
+ *   (기록 후 커밋 전에 프로세스가 죽으면 그 보상은 완료 기록 없이 반영될 수 있음)
+ * - getPoints / getProfile은 아직 반영되지 않은 변화량을 더해 돌려줍니다.
+ * - 저널 디렉터리는 인스턴스마다 따로 둬야 합니다. (디렉터리의 node-id 파일이 체크포인트 키)
+ *   꺼진 상태로 시작해도 디렉터리에 남은 저널이 있으면 먼저 반영합니다.
+ *
+ * 커넥션 풀 고갈을 막기 위한 규칙: DB 커넥션을 쥔 채 visibilityLock을 기다리는 스레드가 없어야 합니다.
+ * 켜져 있으면 read / flush는 트랜잭션 밖에서만 호출할 수 있고 잠금을 먼저 잡은 뒤 커넥션을 얻습니다.
+ * (꺼져 있으면 read는 잠금 없이 바로 reader를 실행하므로 트랜잭션 안에서도 쓸 수 있음)
+ * 커밋 직전 기록(append)은 커넥션을 쥐고 appendLock을 기다리지만, appendLock을 배타로 잡는 drain은
+ * visibilityLock을 먼저 잡은 뒤라 커넥션이나 다른 잠금을 기다리지 않습니다. (잠금 순서: visibility → append)
+ */
+@Component
+public class ProfileRewardBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(ProfileRewardBuffer.class);
+
+    private static final int STRIPES = 32;
+    // sequence(8) + userId(8) + points(4) + levels(4) + crc(4)
+    private static final int RECORD_BYTES = 28;
+    private static final int BATCH_SIZE = 500;
+    private static final String SEGMENT_PREFIX = "rewards-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String NODE_ID_FILE = "node-id";
+
+    private static final String ADD_SQL =
+            "update user_profiles set points = points + ?, personal_level = personal_level + ? where user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate flushTransaction;
+    private final boolean enabled;
+    private final Path journalDir;
+    private final boolean fsync;
+    private final Timer flushTimer;
+
+    // 사용자별 미반영 변화량. 같은 스트라이프의 사용자끼리만 모니터를 공유
+    @SuppressWarnings("unchecked")
+    private final Map<Long, Delta>[] stripes = new Map[STRIPES];
+    // 버퍼에서 꺼냈지만 아직 커밋되지 않은 변화량 (반영이 실패하면 다음 flush에서 다시 시도)
+    private final Map<Long, Delta> inFlight = new HashMap<>();
+    // 게이지용 inFlight 크기. inFlight는 visibilityLock 배타 잠금 안에서만 바뀌므로 바꿀 때마다 함께 갱신
+    private volatile int inFlightUsers;
+    // 기록(공유) / drain(배타): drain 시점의 순번 이하 레코드가 모두 버퍼에 들어 있게 함
+    private final ReentrantReadWriteLock appendLock = new ReentrantReadWriteLock();
+    // 조회(공유) / drain, 반영 커밋(배타): DB 값과 미반영 변화량을 같은 시점 기준으로 더하게 함
+    private final ReentrantReadWriteLock visibilityLock = new ReentrantReadWriteLock();
+    private final Object journalMonitor = new Object();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final List<Path> closedSegments = new ArrayList<>();
+
+    private String nodeId;
+    private FileChannel segment;
+    private long segmentFirstSequence;
+    private long lastSequence;
+    private long drainedSequence;
+    private long checkpointedSequence;
+
+    public ProfileRewardBuffer(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${floorida.rewards.write-behind.enabled:false}") boolean enabled,
+                               @Value("${floorida.rewards.write-behind.journal-dir:data/reward-journal}") String journalDir,
+                               @Value("${floorida.rewards.write-behind.fsync:true}") boolean fsync) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.journalDir = Path.of(journalDir);
+        this.fsync = fsync;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new HashMap<>();
+        }
+        this.flushTimer = Timer.builder("floorida.rewards.flush")
+                .description("Write-behind reward flush latency")
+                .register(meterRegistry);
+        Gauge.builder("floorida.rewards.pending.users", this, ProfileRewardBuffer::pendingUsers)
+                .description("Users with rewards not yet written to user_profiles")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** 저널을 열고, 지난 실행에서 반영되지 않은 레코드가 있으면 먼저 반영합니다. */
+    @PostConstruct
+    void open() throws IOException {
+        List<Path> existing = listSegments();
+        if (!enabled && existing.isEmpty()) {
+            return;
+        }
+        Files.createDirectories(journalDir);
+        nodeId = readOrCreateNodeId();
+        checkpointedSequence = loadCheckpoint();
+        lastSequence = checkpointedSequence;
+        drainedSequence = checkpointedSequence;
+        int replayed = 0;
+        for (Path path : existing) {
+            replayed += replay(path);
+            closedSegments.add(path);
+        }
+        inFlightUsers = inFlight.size();
+        openSegment();
+        if (!closedSegments.isEmpty()) {
+            int users = flush();
+            log.info("Replayed {} reward journal records for {} users (node {})", replayed, users, nodeId);
+        }
+        if (!enabled) {
+            closeJournal();
+            Files.deleteIfExists(segmentPath(segmentFirstSequence));
+        }
+    }
+
+    /** 남은 변화량을 반영하고 저널을 닫습니다. 반영에 실패해도 저널이 남아 다음 시작 때 적용됩니다. */
+    @PreDestroy
+    void close() {
+        if (segment == null) {
+            return;
+        }
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Reward flush on shutdown failed; journal will be replayed on next start", e);
+        }
+        closeJournal();
+    }
+
+    /**
+     * 보상 변화량을 기록합니다.
+     * 트랜잭션 안이면 커밋 직전에 기록하고, 그 뒤 롤백되면 상쇄 레코드를 남깁니다.
+     */
+    public void add(Long userId, int points, int levels) {
+        if (points == 0 && levels == 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            append(userId, points, levels);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean appended;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                append(userId, points, levels);
+                appended = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (appended && status == STATUS_ROLLED_BACK) {
+                    append(userId, -points, -levels);
+                }
+            }
+        });
+    }
+
+    /**
+     * 미반영 변화량을 넘겨 reader를 실행합니다.
+     * reader 안에서 읽거나 쓴 DB 값과 변화량은 같은 시점 기준이라 더해도 이중 계산/누락이 없습니다.
+     * 잠금을 기다리는 동안 커넥션을 쥐고 있지 않도록 트랜잭션 밖에서 호출하고, 트랜잭션은 reader 안에서 엽니다.
+     */
+    public <T> T read(Long userId, Function<Delta, T> reader) {
+        if (!enabled) {
+            return reader.apply(Delta.ZERO);
+        }
+        requireNoTransaction();
+        visibilityLock.readLock().lock();
+        try {
+            return reader.apply(pendingOf(userId));
+        } finally {
+            visibilityLock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${floorida.rewards.write-behind.flush-interval:PT1S}")
+    public void scheduledFlush() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Reward flush failed; pending rewards will be retried", e);
+        }
+    }
+
+    /**
+     * 버퍼의 변화량을 사용자별로 합쳐 배치 UPDATE로 반영하고 체크포인트를 옮깁니다.
+     * 동시에 한 번만 실행되며, JDBC 호출 중 가상 스레드가 캐리어에 고정되지 않도록 모니터 대신 flushLock을 씁니다.
+     * @return 반영한 사용자 수
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            return flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private int flushLocked() {
+        if (segment == null) {
+            return 0;
+        }
+        requireNoTransaction();
+        long startedAt = System.nanoTime();
+        drain();
+        if (inFlight.isEmpty() && drainedSequence == checkpointedSequence) {
+            // 이전 실행에서 반영은 끝났지만 지우지 못한 세그먼트가 있을 수 있음
+            deleteClosedSegments();
+            return 0;
+        }
+        List<Map.Entry<Long, Delta>> rows = new ArrayList<>(inFlight.entrySet());
+        // 여러 인스턴스가 같은 행들을 갱신해도 잠금 순서가 같도록
+        rows.sort(Map.Entry.comparingByKey());
+        long sequence = drainedSequence;
+        visibilityLock.writeLock().lock();
+        try {
+            flushTransaction.executeWithoutResult(tx -> {
+                int[][] updated = jdbcTemplate.batchUpdate(ADD_SQL, rows, BATCH_SIZE, (ps, row) -> {
+                    ps.setInt(1, row.getValue().points());
+                    ps.setInt(2, row.getValue().levels());
+                    ps.setLong(3, row.getKey());
+                });
+                warnMissingProfiles(rows, updated);
+                saveCheckpoint(sequence);
+            });
+            inFlight.clear();
+            inFlightUsers = 0;
+            checkpointedSequence = sequence;
+        } finally {
+            visibilityLock.writeLock().unlock();
+        }
+        deleteClosedSegments();
+        flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return rows.size();
+    }
+
+    private void append(Long userId, int points, int levels) {
+        appendLock.readLock().lock();
+        try {
+            FileChannel channel;
+            synchronized (journalMonitor) {
+                channel = segment;
+                write(channel, ++lastSequence, userId, points, levels);
+            }
+            // fsync는 저널 모니터 밖에서: 동시에 기록한 요청들이 한 번의 디스크 동기화를 나눠 씀
+            if (fsync) {
+                channel.force(false);
+            }
+            Map<Long, Delta> stripe = stripes[stripeOf(userId)];
+            synchronized (stripe) {
+                stripe.merge(userId, new Delta(points, levels), Delta::plus);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Reward journal write failed", e);
+        } finally {
+            appendLock.readLock().unlock();
+        }
+    }
+
+    /** 스트라이프의 변화량을 inFlight로 옮기고, 기록 중이던 저널 세그먼트를 닫습니다. */
+    private void drain() {
+        visibilityLock.writeLock().lock();
+        appendLock.writeLock().lock();
+        try {
+            for (Map<Long, Delta> stripe : stripes) {
+                synchronized (stripe) {
+                    stripe.forEach((userId, delta) -> inFlight.merge(userId, delta, Delta::plus));
+                    stripe.clear();
+                }
+            }
+            // 롤백 상쇄로 0이 된 사용자는 UPDATE하지 않음
+            inFlight.values().removeIf(Delta::isZero);
+            inFlightUsers = inFlight.size();
+            drainedSequence = lastSequence;
+            if (lastSequence >= segmentFirstSequence) {
+                closedSegments.add(segmentPath(segmentFirstSequence));
+                segment.close();
+                openSegment();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Reward journal rotation failed", e);
+        } finally {
+            appendLock.writeLock().unlock();
+            visibilityLock.writeLock().unlock();
+        }
+    }
+
+    private static void requireNoTransaction() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Reward buffer must be used outside a transaction");
+        }
+    }
+
+    private Delta pendingOf(Long userId) {
+        Delta pending = inFlight.getOrDefault(userId, Delta.ZERO);
+        Map<Long, Delta> stripe = stripes[stripeOf(userId)];
+        synchronized (stripe) {
+            return pending.plus(stripe.getOrDefault(userId, Delta.ZERO));
+        }
+    }
+
+    private double pendingUsers() {
+        // 게이지는 반영 중(잠금을 쥔 채 DB 배치 실행)에도 막히지 않도록 inFlight 대신 volatile 값을 읽는다
+        int users = inFlightUsers;
+        for (Map<Long, Delta> stripe : stripes) {
+            synchronized (stripe) {
+                users += stripe.size();
+            }
+        }
+        return users;
+    }
+
+    private static int stripeOf(Long userId) {
+        return Math.floorMod(Long.hashCode(userId), STRIPES);
+    }
+
+    private void warnMissingProfiles(List<Map.Entry<Long, Delta>> rows, int[][] updated) {
+        int i = 0;
+        for (int[] batch : updated) {
+            for (int count : batch) {
+                if (count == 0) {
+                    log.warn("Dropped pending reward for user {} without profile: {}", rows.get(i).getKey(), rows.get(i).getValue());
+                }
+                i++;
+            }
+        }
+    }
+
+    // ---- 저널 파일 ----
+
+    private void openSegment() throws IOException {
+        segmentFirstSequence = lastSequence + 1;
+        Path path = segmentPath(segmentFirstSequence);
+        // 같은 이름의 파일은 유효한 레코드가 없는(쓰다 만) 세그먼트뿐이므로 지우고 새로 시작
+        closedSegments.remove(path);
+        Files.deleteIfExists(path);
+        segment = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /** 프로세스 종료를 흉내 내는 테스트에서도 사용 (반영 없이 파일만 닫음) */
+    void closeJournal() {
+        synchronized (journalMonitor) {
+            if (segment == null) {
+                return;
+            }
+            try {
+                segment.close();
+            } catch (IOException e) {
+                log.warn("Failed to close reward journal", e);
+            }
+            segment = null;
+        }
+    }
+
+    private Path segmentPath(long firstSequence) {
+        return journalDir.resolve(SEGMENT_PREFIX + String.format("%019d", firstSequence) + SEGMENT_SUFFIX);
+    }
+
+    private List<Path> listSegments() throws IOException {
+        if (!Files.isDirectory(journalDir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(journalDir)) {
+            return files.filter(p -> {
+                        String name = p.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static void write(FileChannel channel, long sequence, Long userId, int points, int levels) throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES);
+        record.putLong(sequence).putLong(userId).putInt(points).putInt(levels);
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), 0, RECORD_BYTES - Integer.BYTES);
+        record.putInt((int) crc.getValue());
+        record.flip();
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+    }
+
+    /** 체크포인트 이후 레코드를 inFlight에 더합니다. 끝이 잘린(fsync 전에 죽은) 레코드에서 멈춥니다. */
+    private int replay(Path path) throws IOException {
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(path));
+        int replayed = 0;
+        while (data.remaining() >= RECORD_BYTES) {
+            int start = data.position();
+            long sequence = data.getLong();
+            long userId = data.getLong();
+            int points = data.getInt();
+            int levels = data.getInt();
+            CRC32 crc = new CRC32();
+            crc.update(data.array(), start, RECORD_BYTES - Integer.BYTES);
+            if (data.getInt() != (int) crc.getValue()) {
+                log.warn("Reward journal {} has a corrupt record at offset {}; ignoring the rest", path, start);
+                return replayed;
+            }
+            lastSequence = Math.max(lastSequence, sequence);
+            if (sequence > checkpointedSequence) {
+                inFlight.merge(userId, new Delta(points, levels), Delta::plus);
+                replayed++;
+            }
+        }
+        return replayed;
+    }
+
+    private void deleteClosedSegments() {
+        closedSegments.removeIf(path -> {
+            try {
+                Files.deleteIfExists(path);
+                return true;
+            } catch (IOException e) {
+                log.warn("Failed to delete flushed reward journal {}", path, e);
+                return false;
+            }
+        });
+    }
+
+    // ---- 체크포인트 ----
+
+    private String readOrCreateNodeId() throws IOException {
+        Path file = journalDir.resolve(NODE_ID_FILE);
+        if (Files.exists(file)) {
+            return Files.readString(file, StandardCharsets.UTF_8).trim();
+        }
+        String id = UUID.randomUUID().toString();
+        Files.writeString(file, id, StandardCharsets.UTF_8);
+        return id;
+    }
+
+    private long loadCheckpoint() {
+        List<Long> found = jdbcTemplate.queryForList(
+                "select last_sequence from profile_reward_checkpoints where node_id = ?", Long.class, nodeId);
+        return found.isEmpty() ? 0 : found.get(0);
+    }
+
+    private void saveCheckpoint(long sequence) {
+        Timestamp now = Timestamp.from(Instant.now());
+        int updated = jdbcTemplate.update(
+                "update profile_reward_checkpoints set last_sequence = ?, updated_at = ? where node_id = ?",
+                sequence, now, nodeId);
+        if (updated == 0) {
+            jdbcTemplate.update(
+                    "insert into profile_reward_checkpoints (node_id, last_sequence, updated_at) values (?, ?, ?)",
+                    nodeId, sequence, now);
+        }
+    }
+
+    /** 한 사용자의 미반영 포인트 / 개인 층수 변화량 */
+    public record Delta(int points, int levels) {
+        static final Delta ZERO = new Delta(0, 0);
+
+        Delta plus(Delta other) {
+            return new Delta(points + other.points, levels + other.levels);
+        }
+
+        boolean isZero() {
+            return points == 0 && levels == 0;
+        }
+    }
+}
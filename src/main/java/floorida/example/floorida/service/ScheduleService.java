@@ -1,20 +1,38 @@
 package floorida.example.floorida.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.concurrent.ThreadLocalRandom;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import floorida.example.floorida.config.jwt.AuthenticatedUser;
 import floorida.example.floorida.dto.AiScheduleRequest;
 import floorida.example.floorida.dto.ScheduleCreateRequest;
+import floorida.example.floorida.dto.ScheduleListResponse;
 import floorida.example.floorida.dto.ScheduleResponse;
 import floorida.example.floorida.dto.ScheduleUpdateRequest;
 import floorida.example.floorida.entity.FloorPlan;
 import floorida.example.floorida.entity.Schedule;
-import floorida.example.floorida.entity.User;
+import floorida.example.floorida.repository.FloorPlanRepository;
 import floorida.example.floorida.repository.ScheduleRepository;
 
 @Service
@@ -22,6 +40,17 @@ public class ScheduleService {
     private final ScheduleRepository scheduleRepository;
     private final CurrentUserService currentUserService;
     private final AiPlanningService aiPlanningService;
+    private final FloorCompletionIndex floorCompletionIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final FloorPlanRepository floorPlanRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserTimeZones userTimeZones;
+    private final int maxRangeDays;
+    private final int floorChunkSize;
+
+    // 목록 조회: 시작일 → 일정 ID 순 (키셋 정렬 키)
+    private static final Sort LIST_SORT = Sort.by("startDate", "scheduleId");
+    private static final int MAX_PAGE_SIZE = 100;
 
     // 예쁜 팔레트에서 자동 배정 (사용자가 color 미입력 시 사용)
     private static final String[] COLOR_PALETTE = new String[] {
@@ -32,20 +61,34 @@ public class ScheduleService {
 
     public ScheduleService(ScheduleRepository scheduleRepository,
                            CurrentUserService currentUserService,
-                           AiPlanningService aiPlanningService) {
+                           AiPlanningService aiPlanningService,
+                           FloorCompletionIndex floorCompletionIndex,
+                           TransactionTemplate transactionTemplate,
+                           FloorPlanRepository floorPlanRepository,
+                           ApplicationEventPublisher eventPublisher,
+                           UserTimeZones userTimeZones,
+                           @Value("${floorida.schedule.max-range-days:3660}") int maxRangeDays,
+                           @Value("${floorida.schedule.floor-chunk-size:500}") int floorChunkSize) {
         this.scheduleRepository = scheduleRepository;
         this.currentUserService = currentUserService;
         this.aiPlanningService = aiPlanningService;
+        this.floorCompletionIndex = floorCompletionIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.floorPlanRepository = floorPlanRepository;
+        this.eventPublisher = eventPublisher;
+        this.userTimeZones = userTimeZones;
+        this.maxRangeDays = maxRangeDays;
+        this.floorChunkSize = floorChunkSize;
     }
 
     @Transactional
     public ScheduleResponse createManual(ScheduleCreateRequest req) {
-        User user = currentUserService.getCurrentUser()
+        AuthenticatedUser user = currentUserService.getCurrentPrincipal()
                 .orElseThrow(() -> new IllegalStateException("Unauthenticated"));
         validateDates(req.getStartDate(), req.getEndDate());
 
         Schedule schedule = new Schedule();
-        schedule.setCreatorUserId(user.getUserId());
+        schedule.setCreatorUserId(user.userId());
         schedule.setTeamId(req.getTeamId());
         schedule.setTitle(req.getTitle());
         // 원래 목표/요약 설정 (없으면 title을 목표로 사용)
@@ -55,64 +98,224 @@ public class ScheduleService {
         schedule.setEndDate(req.getEndDate());
     schedule.setColor(getOrGenerateColor(req.getColor()));
 
-        if (req.getFloors() != null && !req.getFloors().isEmpty()) {
-            for (var f : req.getFloors()) {
-                FloorPlan floor = new FloorPlan();
-                floor.setCreatorUserId(user.getUserId());
-                floor.setTitle(f.getTitle());
-                floor.setScheduledDate(f.getScheduledDate());
-                schedule.addFloor(floor);
-            }
-        }
         Schedule saved = scheduleRepository.save(schedule);
-        return toResponse(saved);
+
+        List<ScheduleResponse.FloorDto> floors = req.getFloors() == null
+                ? List.of()
+                : insertFloors(req.getFloors().stream()
+                        .map(f -> newFloor(saved, user.userId(), f.getTitle(), f.getScheduledDate())));
+        eventPublisher.publishEvent(new UserDataChangedEvent(user.userId()));
+        // 새 일정이므로 완료된 Floor가 없다
+        return toResponse(saved, floors, 0);
     }
 
-    @Transactional
     public ScheduleResponse createWithAi(AiScheduleRequest req) {
-        User user = currentUserService.getCurrentUser()
+        AuthenticatedUser user = currentUserService.getCurrentPrincipal()
                 .orElseThrow(() -> new IllegalStateException("Unauthenticated"));
-        validateDates(req.getStartDate(), req.getEndDate());
+        return planAndPersist(user.userId(), req);
+    }
+
+    /**
+     * AI로 계획을 만든 뒤 일정을 저장합니다. (SecurityContext 없이 비동기 작업에서도 호출)
+     *
+     * LLM 호출은 트랜잭션 밖에서 수행하고, 결과가 나온 뒤 짧은 트랜잭션으로 저장합니다.
+     * 수 초 걸리는 LLM 응답을 기다리는 동안 DB 커넥션을 점유하지 않기 위함입니다.
+     */
+    public ScheduleResponse planAndPersist(Long userId, AiScheduleRequest req) {
+        validateAiRequest(req);
 
         // Call AI to get suggested floors
-        List<AiPlanningService.AiFloor> aiFloors = aiPlanningService.plan(req.getGoal(), req.getStartDate(), req.getEndDate());
+        Stream<AiPlanningService.AiFloor> aiFloors = aiPlanningService.planFloors(req.getGoal(), req.getStartDate(), req.getEndDate());
+
+        return transactionTemplate.execute(status -> persistAiSchedule(userId, req, aiFloors));
+    }
+
+    /**
+     * 스트리밍 모드: Floor가 생성될 때마다 onFloor로 전달하고, 계획이 끝나면 일정을 저장합니다.
+     * 모든 Floor는 저장 트랜잭션을 열기 전에 전달되며, 계획이 중간에 끊기면 저장하지 않습니다.
+     */
+    public ScheduleResponse planAndPersistStreaming(Long userId, AiScheduleRequest req, Consumer<AiPlanningService.AiFloor> onFloor) {
+        validateAiRequest(req);
+
+        Stream<AiPlanningService.AiFloor> aiFloors = aiPlanningService.planStreaming(req.getGoal(), req.getStartDate(), req.getEndDate(), onFloor);
+
+        return transactionTemplate.execute(status -> persistAiSchedule(userId, req, aiFloors));
+    }
 
+    /** 비동기 작업 접수 전에 요청을 미리 검증할 때 사용 */
+    public void validateAiRequest(AiScheduleRequest req) {
+        validateDates(req.getStartDate(), req.getEndDate());
+    }
+
+    private ScheduleResponse persistAiSchedule(Long userId, AiScheduleRequest req, Stream<AiPlanningService.AiFloor> aiFloors) {
         Schedule schedule = new Schedule();
-        schedule.setCreatorUserId(user.getUserId());
+        schedule.setCreatorUserId(userId);
         schedule.setTeamId(req.getTeamId());
         // 표시용 제목 (title 제공 시 사용, 없으면 goal 그대로)
         schedule.setTitle(req.getTitle() != null && !req.getTitle().isBlank() ? req.getTitle() : req.getGoal());
         schedule.setOriginalGoal(req.getGoal());
         schedule.setStartDate(req.getStartDate());
         schedule.setEndDate(req.getEndDate());
-    schedule.setColor(getOrGenerateColor(req.getColor()));
+        schedule.setColor(getOrGenerateColor(req.getColor()));
+        Schedule saved = scheduleRepository.save(schedule);
 
-        for (var af : aiFloors) {
-            FloorPlan floor = new FloorPlan();
-            floor.setCreatorUserId(user.getUserId());
-            floor.setTitle(af.title());
-            floor.setScheduledDate(af.date());
-            schedule.addFloor(floor);
+        List<ScheduleResponse.FloorDto> floors;
+        try (aiFloors) {
+            floors = insertFloors(aiFloors.map(af -> newFloor(saved, userId, af.title(), af.date())));
         }
+
         // 간단 요약 자동 생성 (추후 AI 요약 확장 가능)
-        schedule.setGoalSummary(generateSimpleSummary(req.getGoal(), req.getStartDate(), req.getEndDate(), aiFloors.size()));
-        Schedule saved = scheduleRepository.save(schedule);
-        return toResponse(saved);
+        saved.setGoalSummary(generateSimpleSummary(req.getGoal(), req.getStartDate(), req.getEndDate(), floors.size()));
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+        // 새 일정이므로 완료된 Floor가 없다
+        return toResponse(saved, floors, 0);
+    }
+
+    private static FloorPlan newFloor(Schedule schedule, Long userId, String title, LocalDate date) {
+        FloorPlan floor = new FloorPlan();
+        floor.setSchedule(schedule);
+        floor.setCreatorUserId(userId);
+        floor.setTitle(title);
+        floor.setScheduledDate(date);
+        return floor;
+    }
+
+    /**
+     * Floor를 고정 크기 청크 단위 JDBC 배치 INSERT로 저장합니다. (일정은 먼저 저장되어 있어야 함)
+     * 저장한 Floor는 영속성 컨텍스트에 올리지 않으므로, 기간이 길어도 관리 엔티티가 늘지 않습니다.
+     */
+    private List<ScheduleResponse.FloorDto> insertFloors(Stream<FloorPlan> floors) {
+        List<ScheduleResponse.FloorDto> saved = new ArrayList<>();
+        List<FloorPlan> chunk = new ArrayList<>(floorChunkSize);
+        Iterator<FloorPlan> it = floors.iterator();
+        while (it.hasNext()) {
+            chunk.add(it.next());
+            if (chunk.size() == floorChunkSize || !it.hasNext()) {
+                floorPlanRepository.insertAll(chunk);
+                for (FloorPlan floor : chunk) {
+                    saved.add(ScheduleResponse.FloorDto.builder()
+                            .floorId(floor.getFloorId())
+                            .title(floor.getTitle())
+                            .scheduledDate(floor.getScheduledDate())
+                            .completed(false)
+                            .build());
+                }
+                chunk.clear();
+            }
+        }
+        return saved;
     }
 
     @Transactional(readOnly = true)
     public ScheduleResponse getById(Long id) {
-        User user = currentUserService.getCurrentUser()
+        AuthenticatedUser user = currentUserService.getCurrentPrincipal()
                 .orElseThrow(() -> new IllegalStateException("Unauthenticated"));
-        Schedule s = scheduleRepository.findByScheduleIdAndCreatorUserId(id, user.getUserId())
-                .orElseThrow(() -> new IllegalArgumentException("Schedule not found"));
+        Schedule s = findOwned(id, user.userId());
         return toResponse(s);
     }
 
+    /**
+     * 내 일정 목록 (키셋 페이지네이션, 시작일·일정 ID 오름차순).
+     * cursor는 이전 페이지 마지막 일정의 (시작일, ID)를 인코딩한 값입니다.
+     * Floor 정보는 페이지 단위로 한 번에 조회합니다 (NONE이면 조회하지 않음).
+     */
+    @Transactional(readOnly = true)
+    public ScheduleListResponse list(ScheduleListResponse.Filter filter, LocalDate from, LocalDate to,
+                                     String cursor, int size, ScheduleListResponse.FloorsMode floorsMode) {
+        AuthenticatedUser user = currentUserService.getCurrentPrincipal()
+                .orElseThrow(() -> new IllegalStateException("Unauthenticated"));
+        ScrollPosition position = decodeCursor(cursor);
+        Limit limit = Limit.of(Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+
+        Window<Schedule> window = switch (filter) {
+            case ALL -> scheduleRepository.findByCreatorUserId(user.userId(), position, LIST_SORT, limit);
+            case ACTIVE -> {
+                LocalDate today = userTimeZones.today(user.userId());
+                yield scheduleRepository.findByCreatorUserIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+                        user.userId(), today, today, position, LIST_SORT, limit);
+            }
+            case PAST -> scheduleRepository.findByCreatorUserIdAndEndDateLessThan(
+                    user.userId(), userTimeZones.today(user.userId()), position, LIST_SORT, limit);
+            case OVERLAP -> {
+                if (from == null || to == null || to.isBefore(from)) {
+                    throw new IllegalArgumentException("Invalid date range");
+                }
+                // start <= to && end >= from
+                yield scheduleRepository.findByCreatorUserIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+                        user.userId(), to, from, position, LIST_SORT, limit);
+            }
+        };
+
+        List<Schedule> schedules = window.getContent();
+        List<Long> ids = schedules.stream().map(Schedule::getScheduleId).toList();
+        Map<Long, List<ScheduleResponse.FloorDto>> floorsBySchedule = Map.of();
+        Map<Long, Integer> counts = Map.of();
+        FloorCompletionIndex.UserCompletions completions = floorCompletionIndex.forUser(user.userId());
+
+        if (!ids.isEmpty() && floorsMode == ScheduleListResponse.FloorsMode.FULL) {
+            floorsBySchedule = floorPlanRepository.findBySchedule_ScheduleIdInOrderByScheduledDateAscFloorIdAsc(ids).stream()
+                    .collect(Collectors.groupingBy(f -> f.getSchedule().getScheduleId(),
+                            Collectors.mapping(f -> ScheduleResponse.FloorDto.builder()
+                                    .floorId(f.getFloorId())
+                                    .title(f.getTitle())
+                                    .scheduledDate(f.getScheduledDate())
+                                    .completed(completions.isCompleted(f.getFloorId()))
+                                    .build(), Collectors.toList())));
+        } else if (!ids.isEmpty() && floorsMode == ScheduleListResponse.FloorsMode.COUNT) {
+            counts = floorPlanRepository.countBySchedule(ids).stream()
+                    .collect(Collectors.toMap(FloorPlanRepository.FloorCount::getScheduleId, c -> c.getFloorCount().intValue()));
+        }
+
+        List<ScheduleResponse> items = new ArrayList<>(schedules.size());
+        for (Schedule s : schedules) {
+            Long id = s.getScheduleId();
+            List<ScheduleResponse.FloorDto> floors = null;
+            Integer floorCount = null;
+            if (floorsMode == ScheduleListResponse.FloorsMode.FULL) {
+                floors = floorsBySchedule.getOrDefault(id, List.of());
+                floorCount = floors.size();
+            } else if (floorsMode == ScheduleListResponse.FloorsMode.COUNT) {
+                floorCount = counts.getOrDefault(id, 0);
+            }
+            items.add(toResponse(s, floors, floorCount, completions.completedCount(id)));
+        }
+
+        boolean hasNext = window.hasNext() && !schedules.isEmpty();
+        return ScheduleListResponse.builder()
+                .items(items)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? encodeCursor(schedules.get(schedules.size() - 1)) : null)
+                .build();
+    }
+
+    private static String encodeCursor(Schedule last) {
+        String raw = last.getStartDate() + ":" + last.getScheduleId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ScrollPosition decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put("startDate", LocalDate.parse(raw.substring(0, sep)));
+            keys.put("scheduleId", Long.parseLong(raw.substring(sep + 1)));
+            return ScrollPosition.forward(keys);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
     private void validateDates(LocalDate start, LocalDate end) {
         if (start == null || end == null || end.isBefore(start)) {
             throw new IllegalArgumentException("Invalid date range");
         }
+        if (ChronoUnit.DAYS.between(start, end) + 1 > maxRangeDays) {
+            throw new IllegalArgumentException("Date range too long (max " + maxRangeDays + " days)");
+        }
     }
 
     // 사용자가 색상을 제공하지 않은 경우, 팔레트에서 랜덤 색상을 선택
@@ -128,15 +331,35 @@ public class ScheduleService {
         return COLOR_PALETTE[idx];
     }
 
+    /**
+     * ID로 일정을 찾고 소유자를 확인합니다.
+     * 조건 쿼리 대신 기본 키 조회를 써서 2차 캐시(schedule 리전)에서 바로 읽히게 합니다.
+     */
+    private Schedule findOwned(Long id, Long userId) {
+        return scheduleRepository.findById(id)
+                .filter(s -> userId.equals(s.getCreatorUserId()))
+                .orElseThrow(() -> new IllegalArgumentException("Schedule not found"));
+    }
+
     private ScheduleResponse toResponse(Schedule s) {
+        // 완료 여부는 사용자별 완료 인덱스에서 추가 쿼리 없이 조회
+        FloorCompletionIndex.UserCompletions completions = floorCompletionIndex.forUser(s.getCreatorUserId());
         List<ScheduleResponse.FloorDto> floors = s.getFloors().stream()
                 .map(f -> ScheduleResponse.FloorDto.builder()
                         .floorId(f.getFloorId())
                         .title(f.getTitle())
                         .scheduledDate(f.getScheduledDate())
+                        .completed(completions.isCompleted(f.getFloorId()))
                         .build())
                 .collect(Collectors.toList());
+        return toResponse(s, floors, completions.completedCount(s.getScheduleId()));
+    }
 
+    private ScheduleResponse toResponse(Schedule s, List<ScheduleResponse.FloorDto> floors, int completedCount) {
+        return toResponse(s, floors, floors.size(), completedCount);
+    }
+
+    private ScheduleResponse toResponse(Schedule s, List<ScheduleResponse.FloorDto> floors, Integer floorCount, int completedCount) {
         return ScheduleResponse.builder()
                 .scheduleId(s.getScheduleId())
                 .title(s.getTitle())
@@ -147,6 +370,8 @@ public class ScheduleService {
                 .color(s.getColor())
                 .teamId(s.getTeamId())
                 .floors(floors)
+                .floorCount(floorCount)
+                .completedCount(completedCount)
                 .build();
     }
 
@@ -157,9 +382,8 @@ public class ScheduleService {
 
     @Transactional
     public ScheduleResponse update(Long id, ScheduleUpdateRequest req) {
-        User user = currentUserService.getCurrentUser().orElseThrow(() -> new IllegalStateException("Unauthenticated"));
-        Schedule s = scheduleRepository.findByScheduleIdAndCreatorUserId(id, user.getUserId())
-                .orElseThrow(() -> new IllegalArgumentException("Schedule not found"));
+        AuthenticatedUser user = currentUserService.getCurrentPrincipal().orElseThrow(() -> new IllegalStateException("Unauthenticated"));
+        Schedule s = findOwned(id, user.userId());
 
         if (req.getTitle() != null && !req.getTitle().isBlank()) {
             s.setTitle(req.getTitle());
@@ -184,14 +408,17 @@ public class ScheduleService {
         }
 
         Schedule saved = scheduleRepository.save(s);
+        eventPublisher.publishEvent(new UserDataChangedEvent(user.userId()));
         return toResponse(saved);
     }
 
     @Transactional
     public void delete(Long id) {
-        User user = currentUserService.getCurrentUser().orElseThrow(() -> new IllegalStateException("Unauthenticated"));
-        Schedule s = scheduleRepository.findByScheduleIdAndCreatorUserId(id, user.getUserId())
-                .orElseThrow(() -> new IllegalArgumentException("Schedule not found"));
+        AuthenticatedUser user = currentUserService.getCurrentPrincipal().orElseThrow(() -> new IllegalStateException("Unauthenticated"));
+        Schedule s = findOwned(id, user.userId());
         scheduleRepository.delete(s);
+        // 삭제된 Floor의 완료 기록이 인덱스에 남지 않도록 재구성 대상으로 표시
+        floorCompletionIndex.invalidate(user.userId());
+        eventPublisher.publishEvent(new UserDataChangedEvent(user.userId()));
     }
 }
@@ -0,0 +1,74 @@
+package floorida.example.floorida.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 본문 읽기 제한 시간 감시.
+ *
+ * HttpRequest.timeout은 응답 헤더를 받을 때까지만 적용되므로, 본문을 읽는 동안에는
+ * 마지막으로 데이터를 받은 뒤의 대기 시간(idle)과 전체 읽기 시간(total)을 따로 감시합니다.
+ * 둘 중 하나라도 넘으면 본문을 닫아 블로킹된 읽기를 풀고 isExpired()가 true가 됩니다.
+ */
+final class StreamReadDeadline implements AutoCloseable {
+
+    private final Closeable body;
+    private final ScheduledExecutorService scheduler;
+    private final long idleNanos;
+    private final long deadlineAt;
+
+    private volatile long lastProgressAt;
+    private volatile boolean expired;
+    private boolean closed;
+    private ScheduledFuture<?> check;
+
+    StreamReadDeadline(Closeable body, ScheduledExecutorService scheduler, Duration idle, Duration total) {
+        this.body = body;
+        this.scheduler = scheduler;
+        this.idleNanos = idle.toNanos();
+        long now = System.nanoTime();
+        this.deadlineAt = now + total.toNanos();
+        this.lastProgressAt = now;
+        schedule(Math.min(idleNanos, total.toNanos()));
+    }
+
+    /** 데이터를 받을 때마다 호출해 idle 타이머를 다시 시작 */
+    void progress() {
+        lastProgressAt = System.nanoTime();
+    }
+
+    boolean isExpired() {
+        return expired;
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (check != null) check.cancel(false);
+    }
+
+    // 타이머는 요청마다 하나만 걸어 두고, 만료 시점에 남은 시간을 다시 계산해 연장한다
+    private synchronized void check() {
+        if (closed) return;
+        long now = System.nanoTime();
+        long remaining = Math.min(lastProgressAt + idleNanos - now, deadlineAt - now);
+        if (remaining > 0) {
+            schedule(remaining);
+            return;
+        }
+        expired = true;
+        try {
+            body.close();
+        } catch (IOException ignore) {
+            // 읽는 쪽에서 만료 여부로 판단
+        }
+    }
+
+    private synchronized void schedule(long delayNanos) {
+        check = scheduler.schedule(this::check, delayNanos, TimeUnit.NANOSECONDS);
+    }
+}
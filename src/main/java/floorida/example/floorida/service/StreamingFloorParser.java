@@ -0,0 +1,123 @@
+package floorida.example.floorida.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+
+import floorida.example.floorida.service.AiPlanningService.AiFloor;
+
+/**
+ * LLM 스트림 조각을 받아 {"floors":[...]} 의 원소가 닫힐 때마다 Floor를 돌려주는 증분 파서.
+ *
+ * Jackson 논블로킹 파서를 사용하므로 조각이 토큰 중간에서 잘려도 됩니다.
+ * 첫 '{' 이전(코드 펜스 등)과 루트 객체가 닫힌 뒤의 내용은 무시합니다.
+ * 날짜가 없거나 기간 밖인 원소는 건너뜁니다.
+ */
+final class StreamingFloorParser {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private final LocalDate start;
+    private final LocalDate end;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    private boolean started;
+    private boolean finished;
+    private int depth;
+    private boolean inFloors;
+    private String field;
+    private String title;
+    private String date;
+
+    StreamingFloorParser(LocalDate start, LocalDate end) {
+        this.start = start;
+        this.end = end;
+        try {
+            this.parser = FACTORY.createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /** 조각을 입력하고 이번에 완성된 Floor 목록을 반환 */
+    List<AiFloor> feed(String chunk) throws IOException {
+        if (finished || chunk == null || chunk.isEmpty()) return List.of();
+        if (!started) {
+            int brace = chunk.indexOf('{');
+            if (brace < 0) return List.of();
+            chunk = chunk.substring(brace);
+            started = true;
+        }
+        byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+        feeder.feedInput(bytes, 0, bytes.length);
+        return drain();
+    }
+
+    boolean isFinished() {
+        return finished;
+    }
+
+    private List<AiFloor> drain() throws IOException {
+        List<AiFloor> completed = new ArrayList<>();
+        JsonToken token;
+        while (!finished && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            switch (token) {
+                case START_OBJECT -> {
+                    depth++;
+                    if (inFloors && depth == 3) {
+                        title = null;
+                        date = null;
+                    }
+                }
+                case END_OBJECT -> {
+                    if (inFloors && depth == 3) {
+                        AiFloor floor = toFloor();
+                        if (floor != null) completed.add(floor);
+                    }
+                    depth--;
+                    if (depth == 0) finished = true;
+                }
+                case START_ARRAY -> {
+                    depth++;
+                    if (depth == 2 && "floors".equals(field)) inFloors = true;
+                }
+                case END_ARRAY -> {
+                    if (inFloors && depth == 2) inFloors = false;
+                    depth--;
+                }
+                case FIELD_NAME -> field = parser.currentName();
+                case VALUE_STRING -> {
+                    if (inFloors && depth == 3) {
+                        if ("title".equals(field)) title = parser.getText();
+                        else if ("date".equals(field)) date = parser.getText();
+                    }
+                }
+                default -> {
+                    // 숫자/불리언 등은 사용하지 않음
+                }
+            }
+        }
+        return completed;
+    }
+
+    private AiFloor toFloor() {
+        if (title == null || title.isBlank() || date == null || date.isBlank()) return null;
+        try {
+            LocalDate d = LocalDate.parse(date);
+            if (d.isBefore(start) || d.isAfter(end)) return null;
+            return new AiFloor(title, d);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
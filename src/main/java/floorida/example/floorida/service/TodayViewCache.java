@@ -0,0 +1,221 @@
+package floorida.example.floorida.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import floorida.example.floorida.dto.FloorResponse;
+import floorida.example.floorida.repository.FloorPlanRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 사용자별 "오늘 할 일" 화면 캐시.
+ *
+ * 오늘 할 일 목록은 그 사용자의 일정/Floor가 생성·수정·삭제·완료될 때만 바뀌므로,
+ * 한 번 만든 목록을 (사용자, 날짜) 단위로 사용자 데이터 버전과 함께 보관하고 재사용합니다.
+ * - 변경 이벤트(UserDataChangedEvent)를 받으면 커밋 이후 해당 사용자 항목을 버립니다.
+ * - 조회 시 버전을 다시 비교하므로, 변경과 동시에 만들어진 오래된 목록이 남아도 쓰이지 않습니다.
+ * - 항목은 사용자 시간대 기준으로 그 날짜가 끝나는 자정에 만료됩니다.
+ * - 자정 직전에는 TodayViewPrecomputer가 다음 날 목록을 미리 넣어 둡니다.
+ * 크기를 넘으면 오래 쓰이지 않은 항목부터 밀려납니다.
+ */
+@Component
+public class TodayViewCache {
+
+    private final FloorPlanRepository floorPlanRepository;
+    private final UserDataVersions userDataVersions;
+    private final UserTimeZones userTimeZones;
+    private final Cache<Key, TodayView> views;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter precomputed;
+
+    public TodayViewCache(FloorPlanRepository floorPlanRepository,
+                          UserDataVersions userDataVersions,
+                          UserTimeZones userTimeZones,
+                          Clock clock,
+                          MeterRegistry meterRegistry,
+                          @Value("${floorida.today-cache.max-users:50000}") long maxUsers) {
+        this.floorPlanRepository = floorPlanRepository;
+        this.userDataVersions = userDataVersions;
+        this.userTimeZones = userTimeZones;
+        this.views = Caffeine.newBuilder()
+                // 자정 전후로 오늘/내일 항목이 함께 있을 수 있다
+                .maximumSize(maxUsers * 2)
+                .expireAfter(new UntilMidnight(clock))
+                .build();
+        this.hits = Counter.builder("floorida.today.cache")
+                .description("Today view cache lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("floorida.today.cache")
+                .description("Today view cache lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.precomputed = Counter.builder("floorida.today.cache.precomputed")
+                .description("Next-day views built ahead of midnight")
+                .register(meterRegistry);
+    }
+
+    /** 사용자의 date 날짜 할 일 목록 (캐시에 없거나 오래됐으면 한 번의 쿼리로 다시 구성) */
+    public List<FloorResponse> get(Long userId, LocalDate date) {
+        // 목록보다 버전을 먼저 읽어야 변경 직전 목록이 새 버전으로 저장되지 않는다
+        long version = userDataVersions.current(userId);
+        Key key = new Key(userId, date);
+        TodayView cached = views.getIfPresent(key);
+        if (cached != null && cached.version() == version) {
+            hits.increment();
+            return cached.floors();
+        }
+        misses.increment();
+        List<FloorResponse> floors = List.copyOf(floorPlanRepository.findFloorResponses(userId, date));
+        views.put(key, new TodayView(userTimeZones.zoneOf(userId), version, floors));
+        return floors;
+    }
+
+    /** 현재 버전으로 만든 date 날짜 목록이 이미 있는지 */
+    public boolean isFresh(Long userId, LocalDate date) {
+        TodayView cached = views.getIfPresent(new Key(userId, date));
+        return cached != null && cached.version() == userDataVersions.current(userId);
+    }
+
+    /**
+     * 여러 사용자의 date 날짜 목록을 한 번의 쿼리로 만들어 넣어 둡니다. (조회 적중/미스로 세지 않음)
+     * @return 넣은 사용자 수
+     */
+    public int precompute(LocalDate date, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Long> versions = new HashMap<>();
+        Map<Long, List<FloorResponse>> byUser = new HashMap<>();
+        for (Long userId : userIds) {
+            versions.put(userId, userDataVersions.current(userId));
+            byUser.put(userId, new ArrayList<>());
+        }
+        for (FloorPlanRepository.UserFloorRow row : floorPlanRepository.findFloorRowsForUsers(userIds, date)) {
+            byUser.get(row.getUserId()).add(new FloorResponse(row.getFloorId(), row.getScheduleId(),
+                    row.getScheduleTitle(), row.getScheduleColor(), row.getFloorTitle(), row.getScheduledDate(),
+                    row.getCompleted()));
+        }
+        byUser.forEach((userId, floors) -> views.put(new Key(userId, date),
+                new TodayView(userTimeZones.zoneOf(userId), versions.get(userId), List.copyOf(floors))));
+        precomputed.increment(byUser.size());
+        return byUser.size();
+    }
+
+    /** 캐시에 목록이 있는 (사용자, 날짜) — 오늘 앱을 연 사용자를 고를 때 사용 */
+    public Set<Key> cachedKeys() {
+        return Set.copyOf(views.asMap().keySet());
+    }
+
+    public void invalidate(Long userId) {
+        LocalDate today = userTimeZones.today(userId);
+        views.invalidateAll(List.of(new Key(userId, today), new Key(userId, today.plusDays(1))));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDataChanged(UserDataChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    public long hitCount() {
+        return (long) hits.count();
+    }
+
+    public long missCount() {
+        return (long) misses.count();
+    }
+
+    /** 조회 중 캐시로 응답한 비율 (조회가 없으면 0) */
+    public double hitRatio() {
+        long total = hitCount() + missCount();
+        return total == 0 ? 0 : (double) hitCount() / total;
+    }
+
+    /** 현재 메모리에 올라와 있는 목록의 사용량 */
+    public MemoryReport memoryReport() {
+        long entries = 0;
+        long floors = 0;
+        long bytes = 0;
+        for (TodayView view : views.asMap().values()) {
+            entries++;
+            floors += view.floors().size();
+            bytes += view.estimatedBytes();
+        }
+        return new MemoryReport(entries, floors, bytes);
+    }
+
+    /** entries: (사용자, 날짜) 목록 수 */
+    public record MemoryReport(long entries, long floors, long bytes) {
+        /** 목록 1개당 평균 바이트 */
+        public long bytesPerEntry() {
+            return entries == 0 ? 0 : bytes / entries;
+        }
+    }
+
+    public record Key(Long userId, LocalDate date) {}
+
+    record TodayView(ZoneId zone, long version, List<FloorResponse> floors) {
+        // Caffeine 노드 + 키 + TodayView + 리스트 대략치
+        private static final int BYTES_PER_VIEW = 160;
+        // FloorResponse + 박싱된 ID 2개 + LocalDate + 문자열 3개 헤더 대략치
+        private static final int BYTES_PER_FLOOR = 200;
+
+        long estimatedBytes() {
+            long bytes = BYTES_PER_VIEW;
+            for (FloorResponse floor : floors) {
+                // 한글이 섞이면 UTF-16으로 저장되므로 문자당 2바이트로 계산
+                bytes += BYTES_PER_FLOOR + 2L * (length(floor.getScheduleTitle())
+                        + length(floor.getScheduleColor()) + length(floor.getFloorTitle()));
+            }
+            return bytes;
+        }
+
+        private static int length(String s) {
+            return s == null ? 0 : s.length();
+        }
+    }
+
+    /** 목록 날짜가 끝나는 (사용자 시간대) 자정에 만료 */
+    private static final class UntilMidnight implements Expiry<Key, TodayView> {
+        private final Clock clock;
+
+        UntilMidnight(Clock clock) {
+            this.clock = clock;
+        }
+
+        @Override
+        public long expireAfterCreate(Key key, TodayView view, long currentTime) {
+            Instant midnight = key.date().plusDays(1).atStartOfDay(view.zone()).toInstant();
+            return Math.max(0, Duration.between(clock.instant(), midnight).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(Key key, TodayView view, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, view, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Key key, TodayView view, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package floorida.example.floorida.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 자정 직전에 다음 날 "오늘 할 일" 목록을 미리 만들어 두는 작업.
+ *
+ * 오늘 목록이 캐시에 있는 사용자(= 오늘 앱을 연 사용자)를 활성 사용자로 보고,
+ * 사용자 시간대 기준 자정까지 lead 이내로 남은 사용자의 내일 목록을
+ * 날짜별로 묶어 batch-size 명 단위 쿼리로 채웁니다.
+ * 자정 직후 몰리는 첫 조회가 DB가 아니라 캐시에서 응답되도록 하기 위함입니다.
+ */
+@Component
+public class TodayViewPrecomputer {
+
+    private static final Logger log = LoggerFactory.getLogger(TodayViewPrecomputer.class);
+
+    private final TodayViewCache todayViewCache;
+    private final UserTimeZones userTimeZones;
+    private final Clock clock;
+    private final boolean enabled;
+    private final Duration lead;
+    private final int batchSize;
+
+    public TodayViewPrecomputer(TodayViewCache todayViewCache,
+                                UserTimeZones userTimeZones,
+                                Clock clock,
+                                @Value("${floorida.today-cache.precompute.enabled:true}") boolean enabled,
+                                @Value("${floorida.today-cache.precompute.lead:PT10M}") Duration lead,
+                                @Value("${floorida.today-cache.precompute.batch-size:500}") int batchSize) {
+        this.todayViewCache = todayViewCache;
+        this.userTimeZones = userTimeZones;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.lead = lead;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${floorida.today-cache.precompute.interval:PT1M}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        int users = precomputeDue();
+        if (users > 0) {
+            log.info("Precomputed next-day floor views for {} users", users);
+        }
+    }
+
+    /**
+     * 지금 자정이 가까운 활성 사용자의 내일 목록을 만듭니다.
+     * @return 목록을 만든 사용자 수
+     */
+    public int precomputeDue() {
+        Instant now = clock.instant();
+        Map<LocalDate, List<Long>> due = new TreeMap<>();
+        for (TodayViewCache.Key key : todayViewCache.cachedKeys()) {
+            ZoneId zone = userTimeZones.zoneOf(key.userId());
+            LocalDate today = LocalDate.ofInstant(now, zone);
+            if (!key.date().equals(today)) {
+                continue;
+            }
+            Instant midnight = today.plusDays(1).atStartOfDay(zone).toInstant();
+            if (Duration.between(now, midnight).compareTo(lead) > 0) {
+                continue;
+            }
+            LocalDate tomorrow = today.plusDays(1);
+            if (!todayViewCache.isFresh(key.userId(), tomorrow)) {
+                due.computeIfAbsent(tomorrow, d -> new ArrayList<>()).add(key.userId());
+            }
+        }
+
+        int total = 0;
+        for (Map.Entry<LocalDate, List<Long>> entry : due.entrySet()) {
+            List<Long> userIds = entry.getValue();
+            for (int from = 0; from < userIds.size(); from += batchSize) {
+                total += todayViewCache.precompute(entry.getKey(),
+                        userIds.subList(from, Math.min(from + batchSize, userIds.size())));
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,7 @@
+package floorida.example.floorida.service;
+
+/**
+ * 사용자의 일정/Floor/캐릭터 데이터가 바뀌었음을 알리는 이벤트.
+ * 커밋 이후 {@link UserDataVersions}가 받아 사용자 버전을 올립니다.
+ */
+public record UserDataChangedEvent(Long userId) {}
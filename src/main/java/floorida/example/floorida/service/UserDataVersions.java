@@ -0,0 +1,64 @@
+package floorida.example.floorida.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 사용자별 데이터 버전 (조건부 GET용 ETag의 기반).
+ *
+ * 일정 생성/수정/삭제, Floor 완료 등으로 사용자 데이터가 바뀌면 커밋 이후 버전이 올라갑니다.
+ * 버전은 서버 전체에서 단조 증가하는 시퀀스 값이라, 캐시에서 밀려난 사용자는
+ * 현재 시퀀스 값으로 다시 시작해도 이전에 발급한 ETag와 잘못 일치하지 않습니다.
+ * 부팅마다 바뀌는 epoch를 함께 넣어 재시작 전에 발급된 ETag도 무효가 됩니다.
+ *
+ * 버전은 인스턴스 메모리에만 있으므로 단일 인스턴스 배포를 전제로 합니다.
+ * 응답 본문을 읽기 <b>전에</b> 버전을 읽어야 오래된 본문이 새 버전으로 태그되지 않습니다.
+ */
+@Component
+public class UserDataVersions {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final Cache<Long, Long> byUser;
+
+    public UserDataVersions(@Value("${floorida.etag.max-users:100000}") long maxUsers) {
+        this.byUser = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .build();
+    }
+
+    /** 사용자의 현재 버전 */
+    public long current(Long userId) {
+        return byUser.get(userId, id -> sequence.get());
+    }
+
+    /** 사용자 데이터 변경 → 버전 증가 */
+    public void bump(Long userId) {
+        if (userId != null) {
+            byUser.put(userId, sequence.incrementAndGet());
+        }
+    }
+
+    /**
+     * 사용자 버전 기반 강한 ETag.
+     * parts에는 같은 버전이라도 본문이 달라지는 요소(조회 날짜, 리소스 ID 등)를 넣습니다.
+     */
+    public String etag(Long userId, Object... parts) {
+        StringBuilder sb = new StringBuilder("\"").append(epoch).append('-').append(current(userId));
+        for (Object part : parts) {
+            sb.append('-').append(part);
+        }
+        return sb.append('"').toString();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDataChanged(UserDataChangedEvent event) {
+        bump(event.userId());
+    }
+}
@@ -0,0 +1,121 @@
+package floorida.example.floorida.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import floorida.example.floorida.config.jwt.AuthenticatedUser;
+import floorida.example.floorida.entity.User;
+import floorida.example.floorida.repository.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 이메일 → 인증 사용자(AuthenticatedUser) 캐시.
+ *
+ * 매 요청마다 JWT 필터와 서비스가 findByEmail을 반복 호출하지 않도록
+ * 크기 제한 + TTL 만료가 있는 인프로세스 캐시를 둡니다.
+ * 존재하지 않는 이메일(부정 결과)은 캐싱하지 않으므로 가입 직후 무효화할 필요가 없고,
+ * 계정이 수정/삭제되면 UserPrincipalCacheEvictor가 해당 사용자 항목을 제거합니다.
+ * 조회 도중 제거가 끼어들면 방금 읽은(옛 값일 수 있는) 항목은 캐시에 남기지 않습니다.
+ *
+ * 생략된 users 조회 수는 floorida.users.lookups.saved 카운터로 노출됩니다.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, AuthenticatedUser> cache;
+    // userId → 캐시 키(이메일). 이메일이 바뀐 사용자도 전체를 훑지 않고 한 번에 지우기 위한 보조 인덱스
+    private final Map<Long, String> emailByUserId = new ConcurrentHashMap<>();
+    private final LongAdder lookupsSaved = new LongAdder();
+    // evictUser 호출 횟수. 조회 시작 후 바뀌었으면 그 사이 커밋된 수정이 있을 수 있음
+    private final AtomicLong evictions = new AtomicLong();
+
+    public UserPrincipalCache(UserRepository userRepository,
+                              @Value("${floorida.cache.user.max-size:10000}") long maxSize,
+                              @Value("${floorida.cache.user.ttl:PT10M}") Duration ttl,
+                              MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                // 크기/TTL로 밀려난 항목은 보조 인덱스에서도 제거 (명시적 제거는 직접 처리)
+                .evictionListener((String email, AuthenticatedUser principal, RemovalCause cause) -> {
+                    if (email != null && principal != null) {
+                        emailByUserId.remove(principal.userId(), email);
+                    }
+                })
+                .recordStats()
+                .build();
+        FunctionCounter.builder("floorida.users.lookups.saved", lookupsSaved, LongAdder::doubleValue)
+                .description("users lookups answered by the request principal or the principal cache")
+                .register(meterRegistry);
+    }
+
+    public Optional<AuthenticatedUser> resolve(String email) {
+        AuthenticatedUser cached = cache.getIfPresent(email);
+        if (cached != null) {
+            lookupsSaved.increment();
+            return Optional.of(cached);
+        }
+        long seen = evictions.get();
+        // 같은 이메일의 동시 조회는 한 번의 findByEmail로 합쳐지고, 그동안의 invalidate는 채우기가 끝난 뒤 적용됨
+        AuthenticatedUser loaded = cache.get(email, this::load);
+        if (loaded != null && evictions.get() != seen) {
+            // 읽은 뒤 제거가 먼저 지나갔으면 옛 값을 다시 채웠을 수 있으므로 되돌림
+            // (제거가 이 확인보다 늦으면 보조 인덱스로 이 항목을 찾아 지움)
+            emailByUserId.remove(loaded.userId(), email);
+            cache.asMap().remove(email, loaded);
+        }
+        return Optional.ofNullable(loaded);
+    }
+
+    /** 계정 정보가 바뀐 사용자의 항목을 제거합니다. (이메일이 바뀌었을 수 있으므로 userId로 찾음) */
+    public void evictUser(Long userId) {
+        evictions.incrementAndGet();
+        String email = emailByUserId.remove(userId);
+        if (email != null) {
+            cache.invalidate(email);
+        }
+    }
+
+    /** SecurityContext의 principal로 DB 조회를 대신한 경우 기록합니다. */
+    void recordSavedLookup() {
+        lookupsSaved.increment();
+    }
+
+    /** 캐시/principal 덕분에 생략된 users 조회 횟수 */
+    public long getLookupsSaved() {
+        return lookupsSaved.sum();
+    }
+
+    public Cache<String, AuthenticatedUser> getCache() {
+        return cache;
+    }
+
+    /** 캐시 로더. 없는 이메일은 null을 돌려줘 캐싱하지 않습니다. */
+    private AuthenticatedUser load(String email) {
+        return userRepository.findByEmail(email)
+                .map(user -> {
+                    AuthenticatedUser principal = toPrincipal(user);
+                    emailByUserId.put(principal.userId(), email);
+                    return principal;
+                })
+                .orElse(null);
+    }
+
+    private static AuthenticatedUser toPrincipal(User user) {
+        return new AuthenticatedUser(user.getUserId(), user.getEmail(), user.getUsername());
+    }
+}
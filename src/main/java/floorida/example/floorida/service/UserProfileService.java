@@ -1,19 +1,37 @@
 package floorida.example.floorida.service;
 
+import java.time.ZoneId;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import floorida.example.floorida.dto.UserProfileResponse;
 import floorida.example.floorida.entity.User;
 import floorida.example.floorida.entity.UserProfile;
 import floorida.example.floorida.repository.UserProfileRepository;
+import floorida.example.floorida.repository.UserRepository;
 
 @Service
 public class UserProfileService {
 
     private final UserProfileRepository userProfileRepository;
+    private final UserRepository userRepository;
+    private final UserTimeZones userTimeZones;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProfileRewardBuffer rewardBuffer;
+    private final TransactionTemplate transactionTemplate;
 
-    public UserProfileService(UserProfileRepository userProfileRepository) {
+    public UserProfileService(UserProfileRepository userProfileRepository, UserRepository userRepository,
+                              UserTimeZones userTimeZones, ApplicationEventPublisher eventPublisher,
+                              ProfileRewardBuffer rewardBuffer, TransactionTemplate transactionTemplate) {
         this.userProfileRepository = userProfileRepository;
+        this.userRepository = userRepository;
+        this.userTimeZones = userTimeZones;
+        this.eventPublisher = eventPublisher;
+        this.rewardBuffer = rewardBuffer;
+        this.transactionTemplate = transactionTemplate;
     }
 
     /**
@@ -25,7 +43,8 @@ public class UserProfileService {
         userProfileRepository.findById(user.getUserId())
                 .orElseGet(() -> {
                     UserProfile profile = new UserProfile();
-                    profile.setUser(user);
+                    // 호출자가 넘긴 user가 다른 세션의 프록시일 수 있으므로 현재 트랜잭션 기준 참조로 연결
+                    profile.setUser(userRepository.getReferenceById(user.getUserId()));
                     profile.setPoints(50); // 가입 + 첫 로그인 보너스
                     profile.setPersonalLevel(1);
                     return userProfileRepository.save(profile);
@@ -35,61 +54,131 @@ public class UserProfileService {
     /**
      * 온보딩에서 받은 성향 정보를 저장/업데이트합니다.
      * (회원가입 직후가 아니어도 언제든지 호출 가능)
+     * 응답의 포인트/층수는 getProfile과 같이 아직 반영되지 않은 보상을 포함합니다.
+     */
+    public UserProfileResponse updateOnboarding(Long userId, String planningTendency, String dailyStudyHours) {
+        return rewardBuffer.read(userId, pending -> transactionTemplate.execute(status -> {
+            UserProfile profile = userProfileRepository.findById(userId)
+                    .orElseThrow(() -> new IllegalStateException("User profile not found"));
+
+            if (planningTendency != null && !planningTendency.isBlank()) {
+                profile.setPlanningTendency(planningTendency);
+            }
+            if (dailyStudyHours != null && !dailyStudyHours.isBlank()) {
+                profile.setDailyStudyHours(dailyStudyHours);
+            }
+            return toResponse(profile, pending);
+        }));
+    }
+
+    /**
+     * "오늘" 계산에 쓸 시간대를 저장합니다. (IANA ID, 예: Asia/Seoul)
+     * 오늘 할 일 목록이 달라질 수 있으므로 사용자 데이터 변경으로 알립니다.
+     * 보류 중인 보상이 빠진 포인트가 응답에 섞이지 않도록 저장된 시간대 ID만 돌려줍니다.
      */
     @Transactional
-    public UserProfile updateOnboarding(Long userId, String planningTendency, String dailyStudyHours) {
+    public String updateTimeZone(Long userId, String timeZone) {
+        ZoneId zone = UserTimeZones.parse(timeZone);
         UserProfile profile = userProfileRepository.findById(userId)
                 .orElseThrow(() -> new IllegalStateException("User profile not found"));
-
-        if (planningTendency != null && !planningTendency.isBlank()) {
-            profile.setPlanningTendency(planningTendency);
-        }
-        if (dailyStudyHours != null && !dailyStudyHours.isBlank()) {
-            profile.setDailyStudyHours(dailyStudyHours);
-        }
-        return profile;
+        profile.setTimeZone(zone.getId());
+        userTimeZones.evict(userId);
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+        return profile.getTimeZone();
     }
 
     /** 포인트 추가 */
     @Transactional
     public void addPoints(Long userId, int points) {
-        UserProfile profile = userProfileRepository.findById(userId)
-                .orElseThrow(() -> new IllegalStateException("User profile not found"));
-        profile.setPoints(profile.getPoints() + points);
+        if (rewardBuffer.isEnabled()) {
+            rewardBuffer.add(userId, points, 0);
+            return;
+        }
+        requireUpdated(userProfileRepository.addPoints(userId, points));
     }
 
-    /** 포인트 차감 */
-    @Transactional
+    /**
+     * 포인트 차감 (잔액 확인과 차감을 하나의 조건부 UPDATE로 처리)
+     *
+     * write-behind 모드에서는 아직 반영되지 않은 보상까지 잔액으로 보고 확인합니다.
+     * (DB 값은 잠시 음수가 될 수 있지만 보류 중인 보상이 반영되면 0 이상이 됨)
+     * ProfileRewardBuffer.read가 커넥션보다 먼저 잠금을 잡아야 하므로 트랜잭션은 그 안에서 엽니다.
+     */
     public void deductPoints(Long userId, int points) {
-        UserProfile profile = userProfileRepository.findById(userId)
-                .orElseThrow(() -> new IllegalStateException("User profile not found"));
-        if (profile.getPoints() < points) {
-            throw new IllegalArgumentException("Not enough points");
+        if (points <= 0) {
+            throw new IllegalArgumentException("Points to deduct must be positive");
         }
-        profile.setPoints(profile.getPoints() - points);
+        rewardBuffer.read(userId, pending -> transactionTemplate.execute(status -> {
+            if (userProfileRepository.deductPoints(userId, points, pending.points()) == 0) {
+                if (!userProfileRepository.existsById(userId)) {
+                    throw new IllegalStateException("User profile not found");
+                }
+                throw new IllegalArgumentException("Not enough points");
+            }
+            return null;
+        }));
     }
 
-    /** 현재 포인트 조회 */
-    @Transactional(readOnly = true)
+    /**
+     * 현재 포인트 조회 (write-behind 모드면 아직 반영되지 않은 보상 포함)
+     * 잠금을 잡은 뒤 커넥션을 얻도록 트랜잭션 없이 리포지토리 조회만 합니다.
+     */
     public int getPoints(Long userId) {
-        return userProfileRepository.findById(userId)
-                .map(UserProfile::getPoints)
-                .orElse(0);
+        return rewardBuffer.read(userId, pending -> userProfileRepository.findById(userId)
+                .map(profile -> profile.getPoints() + pending.points())
+                .orElse(0));
     }
 
-    /** 전체 프로필 조회 */
-    @Transactional(readOnly = true)
-    public UserProfile getProfile(Long userId) {
-        return userProfileRepository.findById(userId)
-                .orElseThrow(() -> new IllegalStateException("User profile not found"));
+    /** 전체 프로필 조회 (write-behind 모드면 아직 반영되지 않은 보상 포함) */
+    public UserProfileResponse getProfile(Long userId) {
+        return rewardBuffer.read(userId, pending -> userProfileRepository.findById(userId)
+                .map(profile -> toResponse(profile, pending))
+                .orElseThrow(() -> new IllegalStateException("User profile not found")));
+    }
+
+    /**
+     * Floor 완료 보상(포인트 + 개인 층수)을 한 번의 프로필 변경으로 반영합니다.
+     * 여러 Floor를 한꺼번에 완료할 때 합산된 값을 넘겨줍니다.
+     * write-behind 모드에서는 ProfileRewardBuffer에 기록하고 주기적으로 모아서 반영합니다.
+     */
+    @Transactional
+    public void applyCompletionRewards(Long userId, int points, int levels) {
+        if (rewardBuffer.isEnabled()) {
+            rewardBuffer.add(userId, points, levels);
+            return;
+        }
+        requireUpdated(userProfileRepository.addPointsAndLevel(userId, points, levels));
     }
 
     /** 개인 층수 +1 (오늘 할 일 1개 완료 시 증가) */
     @Transactional
     public void incrementPersonalLevel(Long userId) {
-        UserProfile profile = userProfileRepository.findById(userId)
-                .orElseThrow(() -> new IllegalStateException("User profile not found"));
-        profile.setPersonalLevel(profile.getPersonalLevel() + 1);
+        if (rewardBuffer.isEnabled()) {
+            rewardBuffer.add(userId, 0, 1);
+            return;
+        }
+        requireUpdated(userProfileRepository.addPersonalLevel(userId, 1));
+    }
+
+    private static void requireUpdated(int updatedRows) {
+        if (updatedRows == 0) {
+            throw new IllegalStateException("User profile not found");
+        }
+    }
+
+    /**
+     * 엔티티를 그대로 직렬화하면 지연 로딩 연관관계(UserProfile.user)를 트랜잭션 밖에서 건드리게 되므로
+     * 응답에 필요한 필드만 옮깁니다. 보류 중인 보상은 엔티티를 바꾸지 않고 응답 값에만 더합니다.
+     */
+    private static UserProfileResponse toResponse(UserProfile profile, ProfileRewardBuffer.Delta pending) {
+        return UserProfileResponse.builder()
+                .userId(profile.getUserId())
+                .points(profile.getPoints() + pending.points())
+                .personalLevel(profile.getPersonalLevel() + pending.levels())
+                .planningTendency(profile.getPlanningTendency())
+                .dailyStudyHours(profile.getDailyStudyHours())
+                .timeZone(profile.getTimeZone())
+                .build();
     }
 }
 
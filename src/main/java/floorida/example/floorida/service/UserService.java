@@ -1,8 +1,7 @@
 package floorida.example.floorida.service;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import floorida.example.floorida.dto.LoginRequest;
 import floorida.example.floorida.dto.SignupRequest;
@@ -13,46 +12,66 @@ import floorida.example.floorida.repository.UserRepository;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;
     private final CharacterService characterService;
     private final UserProfileService userProfileService;
 
     public UserService(UserRepository userRepository,
-                       PasswordEncoder passwordEncoder,
+                       PasswordHashingService passwordHashingService,
+                       TransactionTemplate transactionTemplate,
                        CharacterService characterService,
                        UserProfileService userProfileService) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
+        this.transactionTemplate = transactionTemplate;
         this.characterService = characterService;
         this.userProfileService = userProfileService;
     }
 
-    @Transactional
+    /**
+     * 비밀번호 해시는 트랜잭션 밖(해시 전용 실행기)에서 먼저 만들어,
+     * 해시하는 동안 DB 커넥션을 붙잡지 않도록 합니다.
+     * 해시 실행기가 가득 차면 TaskRejectedException이 발생합니다.
+     */
     public User register(SignupRequest req) {
-        if (userRepository.existsByEmail(req.getEmail())) {
-            throw new IllegalArgumentException("Email already in use");
-        }
-        if (userRepository.existsByUsername(req.getUsername())) {
-            throw new IllegalArgumentException("Username already in use");
-        }
-        User user = new User();
-        user.setEmail(req.getEmail());
-        user.setUsername(req.getUsername());
-        user.setPasswordHash(passwordEncoder.encode(req.getPassword()));
-        User savedUser = userRepository.save(user);
-        
-        // 회원가입 시 기본 캐릭터 자동 생성
-        characterService.createDefaultCharacter(savedUser);
-        
-        return savedUser;
+        String passwordHash = passwordHashingService.encode(req.getPassword());
+        return transactionTemplate.execute(status -> {
+            if (userRepository.existsByEmail(req.getEmail())) {
+                throw new IllegalArgumentException("Email already in use");
+            }
+            if (userRepository.existsByUsername(req.getUsername())) {
+                throw new IllegalArgumentException("Username already in use");
+            }
+            User user = new User();
+            user.setEmail(req.getEmail());
+            user.setUsername(req.getUsername());
+            user.setPasswordHash(passwordHash);
+            User savedUser = userRepository.save(user);
+
+            // 회원가입 시 기본 캐릭터 자동 생성
+            characterService.createDefaultCharacter(savedUser);
+
+            return savedUser;
+        });
     }
 
+    /**
+     * 해시 실행기가 가득 차면 TaskRejectedException이 발생합니다.
+     * 저장된 해시의 강도가 설정(floorida.password.bcrypt-strength)과 다르면 새 강도로 다시 저장합니다.
+     * (검증이 끝난 뒤 실행기가 가득 차면 다시 저장만 건너뛰고 로그인은 성공)
+     */
     public User authenticateOrThrow(LoginRequest req) {
         User user = userRepository.findByEmail(req.getEmail())
                 .orElseThrow(() -> new IllegalArgumentException("Invalid credentials"));
-        if (!passwordEncoder.matches(req.getPassword(), user.getPasswordHash())) {
+        if (!passwordHashingService.matches(req.getPassword(), user.getPasswordHash())) {
             throw new IllegalArgumentException("Invalid credentials");
         }
+        passwordHashingService.upgradedHash(req.getPassword(), user.getPasswordHash())
+                .ifPresent(hash -> {
+                    user.setPasswordHash(hash);
+                    userRepository.save(user);
+                });
 
         // 처음 로그인한 사용자라면 UserProfile 생성 + 50코인 지급
         userProfileService.ensureSignupBonusOnFirstLogin(user);
@@ -0,0 +1,87 @@
+package floorida.example.floorida.service;
+
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import floorida.example.floorida.repository.UserProfileRepository;
+
+/**
+ * 사용자 시간대 조회와 사용자 기준 "오늘" 계산.
+ *
+ * 시간대는 user_profiles.time_zone 에 저장되며, 요청마다 읽지 않도록 사용자별로 캐시합니다.
+ * 값이 없거나 잘못된 경우 floorida.time-zone.default (비어 있으면 서버 JVM 기본 시간대)를 사용합니다.
+ */
+@Component
+public class UserTimeZones {
+
+    private final UserProfileRepository userProfileRepository;
+    private final Clock clock;
+    private final ZoneId defaultZone;
+    private final Cache<Long, ZoneId> byUser;
+
+    public UserTimeZones(UserProfileRepository userProfileRepository,
+                         Clock clock,
+                         @Value("${floorida.time-zone.default:}") String defaultZone,
+                         @Value("${floorida.time-zone.max-users:100000}") long maxUsers) {
+        this.userProfileRepository = userProfileRepository;
+        this.clock = clock;
+        this.defaultZone = defaultZone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(defaultZone);
+        this.byUser = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .build();
+    }
+
+    public ZoneId zoneOf(Long userId) {
+        return byUser.get(userId, this::load);
+    }
+
+    /** 사용자 시간대 기준 오늘 날짜 */
+    public LocalDate today(Long userId) {
+        return LocalDate.now(clock.withZone(zoneOf(userId)));
+    }
+
+    /** 시간대 변경 시 호출 (트랜잭션 안이면 커밋 이후에 비움) */
+    public void evict(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    byUser.invalidate(userId);
+                }
+            });
+        } else {
+            byUser.invalidate(userId);
+        }
+    }
+
+    /** 저장 전 검증용: 잘못된 ID면 IllegalArgumentException */
+    public static ZoneId parse(String timeZone) {
+        try {
+            return ZoneId.of(timeZone);
+        } catch (DateTimeException | NullPointerException e) {
+            throw new IllegalArgumentException("Invalid time zone");
+        }
+    }
+
+    private ZoneId load(Long userId) {
+        return userProfileRepository.findTimeZone(userId)
+                .map(id -> {
+                    try {
+                        return ZoneId.of(id);
+                    } catch (DateTimeException e) {
+                        return defaultZone;
+                    }
+                })
+                .orElse(defaultZone);
+    }
+}
@@ -0,0 +1,59 @@
+-- 기준 스키마 (기존 ddl-auto=update 로 만들어진 테이블과 동일)
+-- 이미 테이블이 있는 DB는 baseline-on-migrate 로 V1을 적용된 것으로 표시하고 V2부터 실행합니다.
+-- PostgreSQL / H2(PostgreSQL 모드) 공통 문법만 사용합니다.
+
+CREATE TABLE IF NOT EXISTS users (
+    user_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    password_hash VARCHAR(255) NOT NULL,
+    username VARCHAR(100) NOT NULL UNIQUE,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS user_profiles (
+    user_id BIGINT NOT NULL PRIMARY KEY REFERENCES users (user_id),
+    planning_tendency VARCHAR(50),
+    daily_study_hours VARCHAR(50),
+    points INTEGER NOT NULL,
+    personal_level INTEGER NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS characters (
+    character_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL UNIQUE REFERENCES users (user_id),
+    image_url VARCHAR(500) NOT NULL,
+    equipped_items VARCHAR(2000),
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS schedules (
+    schedule_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    creator_user_id BIGINT NOT NULL,
+    team_id BIGINT,
+    title VARCHAR(255) NOT NULL,
+    original_goal VARCHAR(1000),
+    goal_summary VARCHAR(2000),
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    color VARCHAR(7),
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS floors (
+    floor_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    schedule_id BIGINT REFERENCES schedules (schedule_id),
+    creator_user_id BIGINT NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    scheduled_date DATE,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS floor_statuses (
+    status_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    floor_id BIGINT NOT NULL REFERENCES floors (floor_id),
+    user_id BIGINT NOT NULL REFERENCES users (user_id),
+    is_completed BOOLEAN NOT NULL,
+    completed_at TIMESTAMP(6) WITH TIME ZONE,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    UNIQUE (floor_id, user_id)
+);
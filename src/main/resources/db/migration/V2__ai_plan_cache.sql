@@ -0,0 +1,8 @@
+-- AI 계획 캐시 (AiPlanCache 영속 저장소)
+CREATE TABLE IF NOT EXISTS ai_plan_cache (
+    cache_key VARCHAR(64) NOT NULL PRIMARY KEY,
+    normalized_goal VARCHAR(1000) NOT NULL,
+    day_count INTEGER NOT NULL,
+    steps TEXT NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
@@ -0,0 +1,13 @@
+-- 자주 실행되는 조회용 인덱스 (ddl-auto=update 는 기존 테이블에 인덱스를 만들지 않음)
+
+-- 오늘/날짜별 할 일: FloorPlanRepository.findFloorResponses, findByCreatorUserIdAndScheduledDate
+CREATE INDEX IF NOT EXISTS idx_floors_creator_date ON floors (creator_user_id, scheduled_date);
+
+-- 일정별 Floor: findBySchedule_ScheduleId, 목록 조회의 Floor 수/목록
+CREATE INDEX IF NOT EXISTS idx_floors_schedule ON floors (schedule_id);
+
+-- 사용자별 완료 기록: FloorStatusRepository.findCompletedFloorIds, findCompletedFloors
+CREATE INDEX IF NOT EXISTS idx_floor_statuses_user_floor ON floor_statuses (user_id, floor_id);
+
+-- 내 일정 목록 키셋 페이지네이션: ScheduleRepository.findByCreatorUserId(..., ScrollPosition, ...)
+CREATE INDEX IF NOT EXISTS idx_schedules_creator_start ON schedules (creator_user_id, start_date, schedule_id);
@@ -0,0 +1,2 @@
+-- 사용자별 시간대 (IANA ID, 예: Asia/Seoul). NULL이면 floorida.time-zone.default 사용
+ALTER TABLE user_profiles ADD COLUMN time_zone VARCHAR(64);
@@ -0,0 +1,8 @@
+-- 보상 write-behind(floorida.rewards.write-behind.*) 저널의 반영 위치.
+-- 인스턴스(저널 디렉터리)마다 한 행이며, user_profiles 배치 UPDATE와 같은 트랜잭션에서 갱신됩니다.
+-- 재시작 시 last_sequence 이후의 저널 레코드만 다시 적용합니다.
+CREATE TABLE IF NOT EXISTS profile_reward_checkpoints (
+    node_id VARCHAR(64) NOT NULL PRIMARY KEY,
+    last_sequence BIGINT NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
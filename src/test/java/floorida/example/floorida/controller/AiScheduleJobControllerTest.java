@@ -0,0 +1,173 @@
+package floorida.example.floorida.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.jayway.jsonpath.JsonPath;
+import com.sun.net.httpserver.HttpServer;
+import com.zaxxer.hikari.HikariDataSource;
+
+import floorida.example.floorida.entity.User;
+import floorida.example.floorida.repository.UserRepository;
+import floorida.example.floorida.service.JwtService;
+
+/**
+ * 느린 LLM(로컬 스텁 서버)을 상대로 비동기 AI 작업이 즉시 접수되고,
+ * 계획 생성 중에는 DB 커넥션을 점유하지 않는지 확인합니다.
+ */
+@SpringBootTest(properties = "OPENAI_API_KEY=test-key")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AiScheduleJobControllerTest {
+
+    private static final long LLM_DELAY_MILLIS = 1500;
+    private static final LocalDate START = LocalDate.of(2025, 11, 1);
+
+    private static final HttpServer STUB_LLM;
+    private static final AtomicInteger ACTIVE_CONNECTIONS_DURING_LLM = new AtomicInteger(-1);
+    private static volatile DataSource dataSource;
+
+    static {
+        try {
+            STUB_LLM = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        STUB_LLM.createContext("/v1/chat/completions", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            if (dataSource instanceof HikariDataSource hikari) {
+                ACTIVE_CONNECTIONS_DURING_LLM.set(hikari.getHikariPoolMXBean().getActiveConnections());
+            }
+            try {
+                Thread.sleep(LLM_DELAY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = chatCompletion().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        STUB_LLM.start();
+    }
+
+    @DynamicPropertySource
+    static void llmProperties(DynamicPropertyRegistry registry) {
+        registry.add("openai.api.base-url", () -> "http://localhost:" + STUB_LLM.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB_LLM.stop(0);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private DataSource injectedDataSource;
+
+    private String bearer;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = injectedDataSource;
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setEmail("ai-" + suffix + "@floorida.site");
+        user.setUsername("ai-" + suffix);
+        user.setPasswordHash("x");
+        userRepository.save(user);
+        bearer = "Bearer " + jwtService.generateToken(user.getEmail());
+    }
+
+    @Test
+    void jobIsAcceptedImmediatelyAndCompletesAfterSlowLlm() throws Exception {
+        long startedAt = System.nanoTime();
+        MvcResult submitted = mockMvc.perform(post("/api/schedules/ai/jobs")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                            {"goal": "토익 900점", "startDate": "2025-11-01", "endDate": "2025-11-03"}
+                            """))
+                .andExpect(status().isAccepted())
+                .andReturn();
+        long submitMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        assertTrue(submitMillis < LLM_DELAY_MILLIS, "submit took " + submitMillis + "ms");
+
+        String jobId = JsonPath.read(submitted.getResponse().getContentAsString(), "$.jobId");
+
+        MvcResult polling = mockMvc.perform(get("/api/schedules/ai/jobs/{jobId}", jobId)
+                        .param("waitSeconds", "10")
+                        .header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(polling))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("SUCCEEDED"))
+                .andExpect(jsonPath("$.schedule.floors.length()").value(3))
+                .andExpect(jsonPath("$.schedule.floors[0].title").value("스텁 단계 1"));
+
+        // LLM 응답을 기다리는 동안 커넥션 풀에서 빌려간 커넥션이 없어야 한다
+        assertEquals(0, ACTIVE_CONNECTIONS_DURING_LLM.get());
+    }
+
+    @Test
+    void unknownJobIsNotFound() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/schedules/ai/jobs/{jobId}", "missing")
+                        .header(HttpHeaders.AUTHORIZATION, bearer))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+    }
+
+    private static String chatCompletion() {
+        ObjectMapper om = new ObjectMapper();
+        ObjectNode plan = om.createObjectNode();
+        var floors = plan.putArray("floors");
+        for (int i = 0; i < 3; i++) {
+            floors.addObject().put("title", "스텁 단계 " + (i + 1)).put("date", START.plusDays(i).toString());
+        }
+        ObjectNode root = om.createObjectNode();
+        root.putArray("choices").addObject().putObject("message").put("role", "assistant").put("content", plan.toString());
+        return root.toString();
+    }
+}
@@ -0,0 +1,241 @@
+package floorida.example.floorida.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpServer;
+
+import floorida.example.floorida.entity.User;
+import floorida.example.floorida.repository.ScheduleRepository;
+import floorida.example.floorida.repository.UserRepository;
+import floorida.example.floorida.service.JwtService;
+
+/**
+ * 토큰을 조금씩 흘려보내는 스텁 LLM으로 SSE 스트리밍 생성을 확인합니다.
+ * 첫 floor 이벤트가 전체 생성이 끝나기 전에 도착해야 합니다.
+ * 목표에 "끊김"/"멈춤"이 들어 있으면 스텁은 계획 중간에 연결을 닫거나 응답을 멈춥니다.
+ */
+@SpringBootTest(properties = "OPENAI_API_KEY=test-key")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AiScheduleStreamControllerTest {
+
+    private static final int FLOORS = 5;
+    private static final int CHUNK_CHARS = 6;
+    private static final long CHUNK_DELAY_MILLIS = 20;
+    private static final LocalDate START = LocalDate.of(2025, 11, 1);
+    private static final String TRUNCATED = "끊김";
+    private static final String STALLED = "멈춤";
+    private static final long STALL_MILLIS = 5_000;
+
+    private static final ObjectMapper OM = new ObjectMapper();
+    private static final HttpServer STUB_LLM;
+
+    static {
+        try {
+            STUB_LLM = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        STUB_LLM.createContext("/v1/chat/completions", exchange -> {
+            String request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            boolean truncated = request.contains(TRUNCATED);
+            boolean stalled = request.contains(STALLED);
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                List<String> pieces = contentPieces();
+                if (truncated || stalled) {
+                    // 마지막 Floor와 루트 객체가 닫히기 전까지만 보낸다
+                    pieces = pieces.subList(0, pieces.size() * 2 / 3);
+                }
+                for (String piece : pieces) {
+                    ObjectNode chunk = OM.createObjectNode();
+                    chunk.putArray("choices").addObject().putObject("delta").put("content", piece);
+                    out.write(("data: " + chunk + "\n\n").getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+                    Thread.sleep(CHUNK_DELAY_MILLIS);
+                }
+                if (stalled) {
+                    Thread.sleep(STALL_MILLIS);
+                    return;
+                }
+                if (!truncated) {
+                    out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        // 멈춘 응답이 다른 테스트의 요청을 막지 않도록 요청마다 스레드를 쓴다
+        STUB_LLM.setExecutor(Executors.newCachedThreadPool());
+        STUB_LLM.start();
+    }
+
+    @DynamicPropertySource
+    static void llmProperties(DynamicPropertyRegistry registry) {
+        registry.add("openai.api.base-url", () -> "http://localhost:" + STUB_LLM.getAddress().getPort());
+        registry.add("openai.api.stream-idle-timeout", () -> "500ms");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB_LLM.stop(0);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    private Long userId;
+    private String bearer;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setEmail("sse-" + suffix + "@floorida.site");
+        user.setUsername("sse-" + suffix);
+        user.setPasswordHash("x");
+        userId = userRepository.save(user).getUserId();
+        bearer = "Bearer " + jwtService.generateToken(user.getEmail());
+    }
+
+    @Test
+    void floorsAreStreamedBeforeScheduleIsSaved() throws Exception {
+        long startedAt = System.nanoTime();
+        MvcResult result = mockMvc.perform(post("/api/schedules/ai/stream")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                            {"goal": "정보처리기사 필기 %s", "startDate": "2025-11-01", "endDate": "2025-11-05"}
+                            """.formatted(UUID.randomUUID())))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        long firstFloorMillis = -1;
+        long scheduleMillis = -1;
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (System.nanoTime() < deadline && scheduleMillis < 0) {
+            String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+            long elapsed = (System.nanoTime() - startedAt) / 1_000_000;
+            if (firstFloorMillis < 0 && body.contains("event:floor")) firstFloorMillis = elapsed;
+            if (body.contains("event:schedule")) scheduleMillis = elapsed;
+            Thread.sleep(5);
+        }
+
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertTrue(scheduleMillis > 0, "schedule event not received: " + body);
+        assertTrue(firstFloorMillis < scheduleMillis / 2,
+                "first floor at " + firstFloorMillis + "ms, schedule at " + scheduleMillis + "ms");
+        assertEquals(FLOORS, body.split("event:floor", -1).length - 1);
+        assertTrue(body.contains("\"title\":\"스텁 단계 1\""));
+        assertTrue(body.contains("\"date\":\"2025-11-05\""));
+    }
+
+    @Test
+    void truncatedPlanEndsWithErrorAndIsNotSaved() throws Exception {
+        String body = streamUntilLastEvent(TRUNCATED);
+
+        assertTrue(body.contains("event:floor"), body);
+        assertTrue(body.contains("event:error"), body);
+        assertTrue(body.contains("nothing was saved"), body);
+        assertFalse(body.contains("event:schedule"), body);
+        assertTrue(scheduleRepository.findByCreatorUserId(userId).isEmpty());
+    }
+
+    @Test
+    void stalledStreamTimesOutInsteadOfWaitingForTheUpstream() throws Exception {
+        long startedAt = System.nanoTime();
+        String body = streamUntilLastEvent(STALLED);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertTrue(body.contains("event:error"), body);
+        assertTrue(elapsedMillis < STALL_MILLIS, "ended after " + elapsedMillis + "ms");
+        assertTrue(scheduleRepository.findByCreatorUserId(userId).isEmpty());
+    }
+
+    @Test
+    void invalidRangeIsRejectedBeforeStreaming() throws Exception {
+        mockMvc.perform(post("/api/schedules/ai/stream")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                            {"goal": "역순 기간", "startDate": "2025-11-05", "endDate": "2025-11-01"}
+                            """))
+                .andExpect(status().isBadRequest());
+    }
+
+    /** 스트림을 열고 schedule 또는 error 이벤트가 올 때까지 기다린 본문 */
+    private String streamUntilLastEvent(String goalKeyword) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/schedules/ai/stream")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                            {"goal": "%s %s", "startDate": "2025-11-01", "endDate": "2025-11-05"}
+                            """.formatted(goalKeyword, UUID.randomUUID())))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        String body = "";
+        while (System.nanoTime() < deadline && !body.contains("event:schedule") && !body.contains("event:error")) {
+            Thread.sleep(5);
+            body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        }
+        return body;
+    }
+
+    /** 코드 펜스로 감싼 계획 JSON을 토큰 경계와 무관하게 잘게 자른 조각 */
+    private static List<String> contentPieces() {
+        ObjectNode plan = OM.createObjectNode();
+        var floors = plan.putArray("floors");
+        for (int i = 0; i < FLOORS; i++) {
+            floors.addObject().put("title", "스텁 단계 " + (i + 1)).put("date", START.plusDays(i).toString());
+        }
+        String content = "```json\n" + plan + "\n```";
+        List<String> pieces = new ArrayList<>();
+        for (int i = 0; i < content.length(); i += CHUNK_CHARS) {
+            pieces.add(content.substring(i, Math.min(content.length(), i + CHUNK_CHARS)));
+        }
+        return pieces;
+    }
+}
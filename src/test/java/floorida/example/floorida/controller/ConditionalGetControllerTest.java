@@ -0,0 +1,197 @@
+package floorida.example.floorida.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import floorida.example.floorida.entity.FloorPlan;
+import floorida.example.floorida.entity.Schedule;
+import floorida.example.floorida.entity.User;
+import floorida.example.floorida.repository.ScheduleRepository;
+import floorida.example.floorida.repository.UserRepository;
+import floorida.example.floorida.service.JwtService;
+import floorida.example.floorida.service.UserProfileService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 사용자 버전 ETag로 변경이 없는 폴링 요청이 조회 쿼리 없이 304로 끝나는지,
+ * 변경(완료 처리) 직후에는 새 본문을 받는지 확인하고
+ * 화면 포커스마다 폴링하는 패턴을 재생해 바이트/쿼리 수가 충분히 줄어드는지 확인합니다.
+ * (실제 바이트/쿼리 수는 실패 시 assertion 메시지에 나옵니다)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConditionalGetControllerTest {
+
+    private static final int ROUNDS = 40;
+    private static final int MUTATE_EVERY = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private UserProfileService userProfileService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final LocalDate today = LocalDate.now();
+    private String bearer;
+    private Schedule schedule;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setEmail("etag-" + suffix + "@floorida.site");
+        user.setUsername("etag-" + suffix);
+        user.setPasswordHash("x");
+        user = userRepository.save(user);
+        userProfileService.ensureSignupBonusOnFirstLogin(user);
+        bearer = "Bearer " + jwtService.generateToken(user.getEmail());
+
+        schedule = new Schedule();
+        schedule.setCreatorUserId(user.getUserId());
+        schedule.setTitle("폴링 일정");
+        schedule.setColor("#FF6B6B");
+        schedule.setStartDate(today);
+        schedule.setEndDate(today);
+        for (int i = 0; i < 8; i++) {
+            FloorPlan floor = new FloorPlan();
+            floor.setCreatorUserId(user.getUserId());
+            floor.setTitle("오늘 할 일 " + i);
+            floor.setScheduledDate(today);
+            schedule.addFloor(floor);
+        }
+        schedule = scheduleRepository.save(schedule);
+    }
+
+    @Test
+    void unchangedDataRevalidatesWithoutQueriesAndChangesAfterCompletion() throws Exception {
+        String path = "/api/schedules/" + schedule.getScheduleId();
+        MockHttpServletResponse first = poll(path, null);
+        assertEquals(200, first.getStatus());
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        assertTrue(first.getHeader(HttpHeaders.CACHE_CONTROL).contains("no-cache"));
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long before = stats.getPrepareStatementCount();
+        MockHttpServletResponse revalidated = poll(path, etag);
+        assertEquals(304, revalidated.getStatus());
+        assertEquals(0, revalidated.getContentLength());
+        assertEquals(0, stats.getPrepareStatementCount() - before);
+
+        Long floorId = schedule.getFloors().get(0).getFloorId();
+        mockMvc.perform(post("/api/floors/{floorId}/complete", floorId).header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(path)
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.floors[0].completed").value(true));
+        assertNotEquals(etag, poll(path, null).getHeader(HttpHeaders.ETAG));
+
+        double notModified = meterRegistry.get("floorida.http.conditional")
+                .tags("endpoint", "schedules.get", "result", "not_modified")
+                .counter().count();
+        assertTrue(notModified >= 1);
+    }
+
+    @Test
+    void replayedPollingWorkload() throws Exception {
+        List<String> paths = List.of(
+                "/api/floors/today",
+                "/api/floors/date/" + today,
+                "/api/schedules/" + schedule.getScheduleId(),
+                "/api/characters/me");
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // 캐릭터 자동 생성, 인증 사용자 캐시 적재 등 최초 요청 비용은 측정에서 제외
+        for (String path : paths) {
+            poll(path, null);
+        }
+
+        // 1) ETag 없이 매번 전체 본문을 받는 기존 폴링
+        long plainBytes = 0;
+        long plainStatements = 0;
+        // 2) 마지막 ETag로 재검증하는 폴링
+        long conditionalBytes = 0;
+        long conditionalStatements = 0;
+        int notModified = 0;
+        Map<String, String> etags = new HashMap<>();
+        int nextFloor = 0;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            if (round > 0 && round % MUTATE_EVERY == 0) {
+                Long floorId = schedule.getFloors().get(nextFloor++).getFloorId();
+                mockMvc.perform(post("/api/floors/{floorId}/complete", floorId).header(HttpHeaders.AUTHORIZATION, bearer))
+                        .andExpect(status().isOk());
+            }
+            for (String path : paths) {
+                long before = stats.getPrepareStatementCount();
+                MockHttpServletResponse plain = poll(path, null);
+                plainStatements += stats.getPrepareStatementCount() - before;
+                plainBytes += plain.getContentAsByteArray().length;
+
+                before = stats.getPrepareStatementCount();
+                MockHttpServletResponse conditional = poll(path, etags.get(path));
+                conditionalStatements += stats.getPrepareStatementCount() - before;
+                conditionalBytes += conditional.getContentAsByteArray().length;
+                if (conditional.getStatus() == 304) {
+                    notModified++;
+                } else {
+                    assertEquals(200, conditional.getStatus());
+                    etags.put(path, conditional.getHeader(HttpHeaders.ETAG));
+                }
+            }
+        }
+
+        int requests = ROUNDS * paths.size();
+        // 변경 직후 라운드(첫 라운드 + 변경 3회)만 본문을 다시 받는다
+        int refreshRounds = 1 + (ROUNDS - 1) / MUTATE_EVERY;
+        assertEquals(requests - refreshRounds * paths.size(), notModified);
+        assertTrue(conditionalBytes * 5 < plainBytes, "bytes " + plainBytes + " -> " + conditionalBytes);
+        assertTrue(conditionalStatements * 5 < plainStatements,
+                "statements " + plainStatements + " -> " + conditionalStatements);
+    }
+
+    private MockHttpServletResponse poll(String path, String etag) throws Exception {
+        var request = get(path).header(HttpHeaders.AUTHORIZATION, bearer);
+        if (etag != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, etag);
+        }
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+}
@@ -0,0 +1,182 @@
+package floorida.example.floorida.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import floorida.example.floorida.entity.FloorPlan;
+import floorida.example.floorida.entity.Schedule;
+import floorida.example.floorida.entity.User;
+import floorida.example.floorida.repository.ScheduleRepository;
+import floorida.example.floorida.repository.UserRepository;
+import floorida.example.floorida.service.JwtService;
+import floorida.example.floorida.service.UserProfileService;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 캘린더 기간 조회가 날짜별 집계를 한 번의 쿼리로 만들고,
+ * 내용이 바뀌지 않으면 If-None-Match 재검증에 304를 돌려주는지 확인합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class FloorRangeControllerTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 11, 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private UserProfileService userProfileService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String bearer;
+    private Schedule red;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setEmail("range-" + suffix + "@floorida.site");
+        user.setUsername("range-" + suffix);
+        user.setPasswordHash("x");
+        user = userRepository.save(user);
+        userProfileService.ensureSignupBonusOnFirstLogin(user);
+        bearer = "Bearer " + jwtService.generateToken(user.getEmail());
+
+        // 11/1~11/3 빨강 일정, 11/2~11/3 파랑 일정 (11/2에는 빨강 2개 + 파랑 1개)
+        red = schedule(user.getUserId(), "빨강", "#FF6B6B", START, 0, 1, 1, 2);
+        schedule(user.getUserId(), "파랑", "#4D96FF", START.plusDays(1), 0, 1);
+    }
+
+    @Test
+    void aggregatesPerDayAndRevalidatesWithEtag() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/floors/range")
+                        .param("from", "2025-11-01")
+                        .param("to", "2025-11-05")
+                        .header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.days.length()").value(5))
+                .andExpect(jsonPath("$.days[0].floorCount").value(1))
+                .andExpect(jsonPath("$.days[1].floorCount").value(3))
+                .andExpect(jsonPath("$.days[1].colors.length()").value(2))
+                .andExpect(jsonPath("$.days[1].colors[0]").value("#4D96FF"))
+                .andExpect(jsonPath("$.days[1].floors").doesNotExist())
+                .andExpect(jsonPath("$.days[4].floorCount").value(0))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        assertEquals('"', etag.charAt(0), "strong ETag expected: " + etag);
+
+        mockMvc.perform(get("/api/floors/range")
+                        .param("from", "2025-11-01")
+                        .param("to", "2025-11-05")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        Long floorId = red.getFloors().get(1).getFloorId();
+        mockMvc.perform(post("/api/floors/{floorId}/complete", floorId)
+                        .header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk());
+
+        MvcResult changed = mockMvc.perform(get("/api/floors/range")
+                        .param("from", "2025-11-01")
+                        .param("to", "2025-11-05")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.days[1].completedCount").value(1))
+                .andReturn();
+        assertNotEquals(etag, changed.getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void rangeIsOneStatementWithOrWithoutExpand() throws Exception {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // 인증 사용자 캐시 적재는 측정에서 제외
+        mockMvc.perform(get("/api/floors/today").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk());
+
+        long before = stats.getPrepareStatementCount();
+        mockMvc.perform(get("/api/floors/range")
+                        .param("from", "2025-11-01")
+                        .param("to", "2025-11-30")
+                        .header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk());
+        assertEquals(1, stats.getPrepareStatementCount() - before);
+
+        before = stats.getPrepareStatementCount();
+        mockMvc.perform(get("/api/floors/range")
+                        .param("from", "2025-11-01")
+                        .param("to", "2025-11-30")
+                        .param("expand", "true")
+                        .header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.days[1].floors.length()").value(3))
+                .andExpect(jsonPath("$.days[1].floors[0].scheduleColor").value("#FF6B6B"))
+                .andExpect(jsonPath("$.days[10].floors.length()").value(0));
+        assertEquals(1, stats.getPrepareStatementCount() - before);
+    }
+
+    @Test
+    void invalidRangeIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/floors/range")
+                        .param("from", "2025-11-05")
+                        .param("to", "2025-11-01")
+                        .header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/floors/range")
+                        .param("from", "2025-01-01")
+                        .param("to", "2025-12-31")
+                        .header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Schedule schedule(Long userId, String title, String color, LocalDate start, int... dayOffsets) {
+        Schedule schedule = new Schedule();
+        schedule.setCreatorUserId(userId);
+        schedule.setTitle(title);
+        schedule.setColor(color);
+        schedule.setStartDate(start);
+        schedule.setEndDate(start.plusDays(dayOffsets[dayOffsets.length - 1]));
+        for (int offset : dayOffsets) {
+            FloorPlan floor = new FloorPlan();
+            floor.setCreatorUserId(userId);
+            floor.setTitle(title + " " + offset);
+            floor.setScheduledDate(start.plusDays(offset));
+            schedule.addFloor(floor);
+        }
+        return scheduleRepository.save(schedule);
+    }
+}
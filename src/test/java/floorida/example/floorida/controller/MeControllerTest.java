@@ -0,0 +1,158 @@
+package floorida.example.floorida.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jayway.jsonpath.JsonPath;
+
+import floorida.example.floorida.entity.User;
+import floorida.example.floorida.repository.UserRepository;
+import floorida.example.floorida.service.JwtService;
+import floorida.example.floorida.service.UserPrincipalCache;
+import floorida.example.floorida.service.UserProfileService;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * principal의 userId만으로 조회한 프로필/온보딩 결과가 DTO로 직렬화되는지,
+ * 계정이 바뀌면 인증 사용자 캐시에서 그 사용자가 비워지는지,
+ * principal 재사용으로 생략된 조회 수가 메트릭으로 집계되는지 확인합니다.
+ * open-in-view를 끈 상태에서 가입 → 로그인(해시 실행기) → 프로필 조회/온보딩 흐름도 확인합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserProfileService userProfileService;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User user;
+    private String bearer;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        user = new User();
+        user.setEmail("me-" + suffix + "@floorida.site");
+        user.setUsername("me-" + suffix);
+        user.setPasswordHash("x");
+        user = userRepository.save(user);
+        userProfileService.ensureSignupBonusOnFirstLogin(user);
+        bearer = "Bearer " + jwtService.generateToken(user.getEmail());
+    }
+
+    @Test
+    void profileAndOnboardingAreSerialized() throws Exception {
+        mockMvc.perform(get("/api/me/profile").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(user.getUserId()))
+                .andExpect(jsonPath("$.points").value(50))
+                .andExpect(jsonPath("$.personalLevel").value(1))
+                .andExpect(jsonPath("$.user").doesNotExist());
+
+        mockMvc.perform(post("/api/me/onboarding")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"planningTendency\":\"PLANS_ONLY\",\"dailyStudyHours\":\"HOURS_1_3\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(user.getUserId()))
+                .andExpect(jsonPath("$.planningTendency").value("PLANS_ONLY"))
+                .andExpect(jsonPath("$.dailyStudyHours").value("HOURS_1_3"))
+                .andExpect(jsonPath("$.points").value(50));
+    }
+
+    @Test
+    void signUpLogInAndReadProfileWithoutOpenSessionInView() throws Exception {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        String email = "flow-" + suffix + "@floorida.site";
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"pw-" + suffix
+                                + "\",\"username\":\"flow-" + suffix + "\"}"))
+                .andExpect(status().isCreated());
+
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"pw-" + suffix + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String token = "Bearer " + JsonPath.read(body, "$.accessToken");
+
+        mockMvc.perform(get("/api/me/profile").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.points").value(50))
+                .andExpect(jsonPath("$.personalLevel").value(1));
+        mockMvc.perform(post("/api/me/onboarding")
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"planningTendency\":\"PROCRASTINATES\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.planningTendency").value("PROCRASTINATES"));
+    }
+
+    @Test
+    void accountChangeEvictsCachedPrincipal() {
+        assertEquals(user.getUsername(), userPrincipalCache.resolve(user.getEmail()).orElseThrow().username());
+
+        String renamed = "renamed-" + UUID.randomUUID().toString().substring(0, 8);
+        transactionTemplate.executeWithoutResult(tx -> {
+            User loaded = userRepository.findById(user.getUserId()).orElseThrow();
+            loaded.setUsername(renamed);
+        });
+
+        assertEquals(renamed, userPrincipalCache.resolve(user.getEmail()).orElseThrow().username());
+    }
+
+    @Test
+    void emailChangeEvictsEntryCachedUnderOldEmail() {
+        String oldEmail = user.getEmail();
+        userPrincipalCache.resolve(oldEmail).orElseThrow();
+
+        String newEmail = "moved-" + UUID.randomUUID().toString().substring(0, 8) + "@floorida.site";
+        transactionTemplate.executeWithoutResult(tx -> {
+            User loaded = userRepository.findById(user.getUserId()).orElseThrow();
+            loaded.setEmail(newEmail);
+        });
+
+        assertNull(userPrincipalCache.getCache().getIfPresent(oldEmail));
+        assertEquals(user.getUserId(), userPrincipalCache.resolve(newEmail).orElseThrow().userId());
+    }
+
+    @Test
+    void savedLookupsAreExportedAsCounter() throws Exception {
+        double before = meterRegistry.get("floorida.users.lookups.saved").functionCounter().count();
+        mockMvc.perform(get("/api/me/points").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk());
+        assertTrue(meterRegistry.get("floorida.users.lookups.saved").functionCounter().count() > before);
+    }
+}
@@ -0,0 +1,107 @@
+package floorida.example.floorida.controller;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 로그인 → 오늘 목록 → AI 일정 생성(키 없음: 기본 계획) → Floor 완료를 실제로 호출한 뒤
+ * 서비스/리포지토리/JWT(검증 캐시 포함)/커넥션 풀/JPA 메트릭이 등록되고 /actuator/prometheus 로 노출되는지 확인합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class MetricsEndpointTest {
+
+    private static final String PASSWORD = "metrics-password";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void endpointsRecordMetersAndPrometheusScrapesThem() throws Exception {
+        String email = "metrics-" + UUID.randomUUID().toString().substring(0, 8) + "@floorida.site";
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\",\"username\":\"metrics\"}"))
+                .andExpect(status().isCreated());
+        String login = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String bearer = "Bearer " + objectMapper.readTree(login).get("accessToken").asText();
+
+        mockMvc.perform(get("/api/floors/today").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/floors/today").header(HttpHeaders.AUTHORIZATION, "Bearer not-a-token"))
+                .andExpect(status().isForbidden());
+
+        LocalDate today = LocalDate.now();
+        String created = mockMvc.perform(post("/api/schedules/ai")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"goal\":\"메트릭 확인\",\"startDate\":\"" + today
+                                + "\",\"endDate\":\"" + today.plusDays(2) + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode floor = objectMapper.readTree(created).get("floors").get(0);
+        mockMvc.perform(post("/api/floors/" + floor.get("floorId").asLong() + "/complete")
+                        .header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk());
+
+        assertNotNull(meterRegistry.find("floorida.service")
+                .tags("class", "UserService", "method", "authenticateOrThrow", "outcome", "success").timer());
+        assertNotNull(meterRegistry.find("floorida.service")
+                .tags("class", "FloorService", "method", "getTodayFloors", "outcome", "success").timer());
+        assertNotNull(meterRegistry.find("floorida.service")
+                .tags("class", "ScheduleService", "method", "createWithAi", "outcome", "success").timer());
+        // Stream을 반환하는 메서드는 소비 전에 끝나므로 집계하지 않는다
+        assertNull(meterRegistry.find("floorida.service")
+                .tags("class", "AiPlanningService", "method", "planFloors").timer());
+        assertNotNull(meterRegistry.find("floorida.repository")
+                .tags("class", "UserRepository", "outcome", "success").timer());
+        assertTrue(meterRegistry.get("floorida.jwt.authentication").tag("outcome", "authenticated").timer().count() > 0);
+        assertTrue(meterRegistry.get("floorida.jwt.authentication").tag("outcome", "invalid_token").timer().count() > 0);
+        // 같은 토큰을 여러 번 썼으므로 검증 캐시 적중이 있어야 함
+        assertTrue(meterRegistry.get("cache.gets").tags("cache", "jwt.verified", "result", "hit").functionCounter().count() > 0);
+        assertNotNull(meterRegistry.find("hikaricp.connections.active").gauge());
+        assertNotNull(meterRegistry.find("hibernate.statements").functionCounter());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertTrue(scrape.contains("floorida_service_seconds_bucket"));
+        assertTrue(scrape.contains("floorida_repository_seconds_count"));
+        assertTrue(scrape.contains("floorida_jwt_authentication_seconds_count"));
+        assertTrue(scrape.contains("cache_gets_total{cache=\"jwt.verified\""));
+        assertTrue(scrape.contains("hikaricp_connections_active"));
+        assertTrue(scrape.contains("hibernate_statements_total"));
+    }
+}
@@ -0,0 +1,186 @@
+package floorida.example.floorida.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import floorida.example.floorida.config.SecondLevelCacheConfig;
+import floorida.example.floorida.entity.FloorPlan;
+import floorida.example.floorida.entity.Schedule;
+import floorida.example.floorida.entity.User;
+import floorida.example.floorida.repository.FloorPlanRepository;
+import floorida.example.floorida.repository.ScheduleRepository;
+import floorida.example.floorida.repository.UserRepository;
+import floorida.example.floorida.service.JwtService;
+import floorida.example.floorida.service.UserProfileService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 일정 상세 조회가 2차 캐시(Schedule, Schedule.floors, FloorPlan)로 쿼리 없이 응답되고,
+ * 수정 / orphan 제거 / JDBC 배치 INSERT / 삭제가 커밋 직후 다음 조회에 바로 보이는지 확인합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ScheduleSecondLevelCacheTest {
+
+    private static final int FLOORS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private FloorPlanRepository floorPlanRepository;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private UserProfileService userProfileService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final LocalDate today = LocalDate.now();
+    private User user;
+    private String bearer;
+    private Long scheduleId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        user = new User();
+        user.setEmail("l2-" + suffix + "@floorida.site");
+        user.setUsername("l2-" + suffix);
+        user.setPasswordHash("x");
+        user = userRepository.save(user);
+        userProfileService.ensureSignupBonusOnFirstLogin(user);
+        bearer = "Bearer " + jwtService.generateToken(user.getEmail());
+
+        Schedule schedule = new Schedule();
+        schedule.setCreatorUserId(user.getUserId());
+        schedule.setTitle("캐시 일정");
+        schedule.setColor("#FF6B6B");
+        schedule.setStartDate(today);
+        schedule.setEndDate(today.plusDays(FLOORS - 1));
+        for (int i = 0; i < FLOORS; i++) {
+            FloorPlan floor = new FloorPlan();
+            floor.setCreatorUserId(user.getUserId());
+            floor.setTitle("단계 " + i);
+            floor.setScheduledDate(today.plusDays(i));
+            schedule.addFloor(floor);
+        }
+        scheduleId = scheduleRepository.save(schedule).getScheduleId();
+    }
+
+    @Test
+    void repeatedViewIsServedFromCache() throws Exception {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        view(); // 캐시 적재
+
+        long statementsBefore = stats.getPrepareStatementCount();
+        long hitsBefore = stats.getDomainDataRegionStatistics(SecondLevelCacheConfig.SCHEDULE_REGION).getHitCount();
+        JsonNode body = view();
+        assertEquals(FLOORS, body.get("floors").size());
+        assertEquals(0, stats.getPrepareStatementCount() - statementsBefore);
+        assertTrue(stats.getDomainDataRegionStatistics(SecondLevelCacheConfig.SCHEDULE_REGION).getHitCount() > hitsBefore);
+        assertTrue(stats.getDomainDataRegionStatistics(SecondLevelCacheConfig.SCHEDULE_FLOORS_REGION).getHitCount() > 0);
+        assertTrue(stats.getDomainDataRegionStatistics(SecondLevelCacheConfig.FLOOR_REGION).getHitCount() > 0);
+
+        // 리전별 hit/miss(Hibernate)와 제거 수(JCache) 메트릭
+        assertNotNull(meterRegistry.find("hibernate.second.level.cache.requests")
+                .tags("region", SecondLevelCacheConfig.SCHEDULE_REGION, "result", "hit").meter());
+        assertNotNull(meterRegistry.find("cache.evictions").tag("cache", SecondLevelCacheConfig.FLOOR_REGION).meter());
+    }
+
+    @Test
+    void writesAreVisibleRightAfterCommit() throws Exception {
+        view();
+
+        // update
+        mockMvc.perform(patch("/api/schedules/{id}", scheduleId)
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"바뀐 제목\"}"))
+                .andExpect(status().isOk());
+        assertEquals("바뀐 제목", view().get("title").asText());
+
+        // orphan removal
+        Long removedId = transactionTemplate.execute(tx -> {
+            Schedule s = scheduleRepository.findById(scheduleId).orElseThrow();
+            FloorPlan removed = s.getFloors().remove(0);
+            return removed.getFloorId();
+        });
+        JsonNode afterRemoval = view();
+        assertEquals(FLOORS - 1, afterRemoval.get("floors").size());
+        assertFalse(floorIds(afterRemoval).contains(removedId));
+        // READ_WRITE는 삭제된 항목 자리에 잠금 항목을 남기므로 contains 대신 실제 조회로 확인
+        assertTrue(floorPlanRepository.findById(removedId).isEmpty());
+
+        // Hibernate를 거치지 않는 JDBC 배치 INSERT
+        transactionTemplate.executeWithoutResult(tx -> {
+            Schedule s = scheduleRepository.findById(scheduleId).orElseThrow();
+            FloorPlan added = new FloorPlan();
+            added.setSchedule(s);
+            added.setCreatorUserId(user.getUserId());
+            added.setTitle("추가 단계");
+            added.setScheduledDate(today);
+            floorPlanRepository.insertAll(List.of(added));
+        });
+        JsonNode afterInsert = view();
+        assertEquals(FLOORS, afterInsert.get("floors").size());
+        assertTrue(afterInsert.get("floors").findValuesAsText("title").contains("추가 단계"));
+
+        // delete
+        mockMvc.perform(delete("/api/schedules/{id}", scheduleId).header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isNoContent());
+        assertTrue(scheduleRepository.findById(scheduleId).isEmpty());
+        assertTrue(floorPlanRepository.findBySchedule_ScheduleId(scheduleId).isEmpty());
+    }
+
+    private JsonNode view() throws Exception {
+        String body = mockMvc.perform(get("/api/schedules/{id}", scheduleId).header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static List<Long> floorIds(JsonNode schedule) {
+        List<Long> ids = new ArrayList<>();
+        schedule.get("floors").forEach(f -> ids.add(f.get("floorId").asLong()));
+        return ids;
+    }
+}
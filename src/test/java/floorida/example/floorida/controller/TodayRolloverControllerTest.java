@@ -0,0 +1,201 @@
+package floorida.example.floorida.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import floorida.example.floorida.entity.FloorPlan;
+import floorida.example.floorida.entity.Schedule;
+import floorida.example.floorida.entity.User;
+import floorida.example.floorida.repository.ScheduleRepository;
+import floorida.example.floorida.repository.UserRepository;
+import floorida.example.floorida.service.JwtService;
+import floorida.example.floorida.service.TodayViewCache;
+import floorida.example.floorida.service.TodayViewPrecomputer;
+import floorida.example.floorida.service.UserProfileService;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 사용자 시간대 기준으로 "오늘"이 바뀌는지, 자정 직전 미리 만든 내일 목록으로
+ * 자정 직후 첫 조회가 쿼리 없이 응답되는지 조작 가능한 시계로 확인합니다.
+ */
+@SpringBootTest(properties = "floorida.today-cache.precompute.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TodayRolloverControllerTest {
+
+    private static final AtomicReference<Instant> NOW = new AtomicReference<>();
+
+    // 키리티마티(UTC+14)의 3/10 23:55, UTC 기준으로는 3/10 09:55
+    private static final Instant BEFORE_MIDNIGHT = Instant.parse("2026-03-10T09:55:00Z");
+    private static final LocalDate MAR_10 = LocalDate.of(2026, 3, 10);
+    private static final LocalDate MAR_11 = LocalDate.of(2026, 3, 11);
+
+    @TestConfiguration
+    static class ClockConfig {
+        @Bean
+        @Primary
+        Clock testClock() {
+            return new MutableClock(ZoneOffset.UTC);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private UserProfileService userProfileService;
+    @Autowired
+    private TodayViewCache todayViewCache;
+    @Autowired
+    private TodayViewPrecomputer todayViewPrecomputer;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void nextDayIsPrecomputedForUsersNearTheirMidnight() throws Exception {
+        NOW.set(BEFORE_MIDNIGHT);
+        User pacific = user("kiritimati");
+        User utc = user("utc");
+        String pacificBearer = bearer(pacific);
+        String utcBearer = bearer(utc);
+
+        mockMvc.perform(put("/api/me/time-zone")
+                        .header(HttpHeaders.AUTHORIZATION, pacificBearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"timeZone\":\"Pacific/Kiritimati\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.timeZone").value("Pacific/Kiritimati"))
+                .andExpect(jsonPath("$.today").value(MAR_10.toString()));
+        mockMvc.perform(put("/api/me/time-zone")
+                        .header(HttpHeaders.AUTHORIZATION, utcBearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"timeZone\":\"UTC\"}"))
+                .andExpect(status().isOk());
+
+        schedule(pacific.getUserId(), MAR_10, 1);
+        schedule(pacific.getUserId(), MAR_11, 2);
+        schedule(utc.getUserId(), MAR_10, 1);
+
+        // 두 사용자 모두 아직 3/10: 오늘 목록이 캐시에 올라가 활성 사용자가 된다
+        today(pacificBearer, 1);
+        today(utcBearer, 1);
+
+        assertTrue(todayViewPrecomputer.precomputeDue() >= 1);
+        assertTrue(todayViewCache.isFresh(pacific.getUserId(), MAR_11));
+        // UTC 사용자는 자정까지 14시간 이상 남아 있어 대상이 아니다
+        assertFalse(todayViewCache.isFresh(utc.getUserId(), MAR_11));
+
+        NOW.set(BEFORE_MIDNIGHT.plus(Duration.ofMinutes(10)));
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long before = stats.getPrepareStatementCount();
+        today(pacificBearer, 2);
+        today(utcBearer, 1);
+        assertEquals(0, stats.getPrepareStatementCount() - before);
+    }
+
+    @Test
+    void unknownTimeZoneIsBadRequest() throws Exception {
+        NOW.set(BEFORE_MIDNIGHT);
+        mockMvc.perform(put("/api/me/time-zone")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(user("invalid")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"timeZone\":\"Mars/Olympus\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void today(String bearer, int floors) throws Exception {
+        mockMvc.perform(get("/api/floors/today").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(floors));
+    }
+
+    private User user(String prefix) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setEmail(prefix + "-" + suffix + "@floorida.site");
+        user.setUsername(prefix + "-" + suffix);
+        user.setPasswordHash("x");
+        user = userRepository.save(user);
+        userProfileService.ensureSignupBonusOnFirstLogin(user);
+        return user;
+    }
+
+    private String bearer(User user) {
+        return "Bearer " + jwtService.generateToken(user.getEmail());
+    }
+
+    private void schedule(Long userId, LocalDate date, int floors) {
+        Schedule schedule = new Schedule();
+        schedule.setCreatorUserId(userId);
+        schedule.setTitle("일정 " + date);
+        schedule.setColor("#FF6B6B");
+        schedule.setStartDate(date);
+        schedule.setEndDate(date);
+        for (int i = 0; i < floors; i++) {
+            FloorPlan floor = new FloorPlan();
+            floor.setCreatorUserId(userId);
+            floor.setTitle("할 일 " + i);
+            floor.setScheduledDate(date);
+            schedule.addFloor(floor);
+        }
+        scheduleRepository.save(schedule);
+    }
+
+    /** NOW를 읽는 시계 (withZone으로 만든 시계도 같은 시각을 공유) */
+    private static final class MutableClock extends Clock {
+        private final ZoneId zone;
+
+        MutableClock(ZoneId zone) {
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new MutableClock(zone);
+        }
+
+        @Override
+        public Instant instant() {
+            Instant now = NOW.get();
+            return now != null ? now : Instant.now();
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package floorida.example.floorida.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 자주 실행되는 리포지토리 쿼리가 1M 행 규모에서 인덱스를 타는지 EXPLAIN으로 확인합니다.
+ *
+ * Flyway 마이그레이션으로 만든 H2(PostgreSQL 모드) 스키마에 데이터를 채운 뒤,
+ * 각 리포지토리 메서드가 실제로 보낸 SQL과 바인딩 값을 그대로 EXPLAIN 하여 테이블 전체 스캔이 없는지 봅니다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:hotquery;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH")
+@ActiveProfiles("test")
+@DirtiesContext
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HotQueryPlanTest {
+
+    private static final int USERS = 1_000;
+    private static final int SCHEDULES = 10_000;
+    private static final int FLOORS = 1_000_000;
+    private static final int STATUSES = 200_000;
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 1, 1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private FloorPlanRepository floorPlanRepository;
+    @Autowired
+    private FloorStatusRepository floorStatusRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @BeforeAll
+    void load() {
+        // system_range의 컬럼명은 대문자 "X" (DATABASE_TO_LOWER 에서도 그대로)
+        jdbcTemplate.update("insert into users (email, password_hash, username, created_at) "
+                + "select 'plan-' || n || '@floorida.site', 'n', 'plan-' || n, current_timestamp from (select \"X\" as n from system_range(1, ?)) r", USERS);
+        jdbcTemplate.update("insert into schedules (creator_user_id, title, start_date, end_date, created_at) "
+                + "select mod(n, ?) + 1, 'schedule ' || n, dateadd('DAY', mod(n, 365), date '2025-01-01'), "
+                + "dateadd('DAY', mod(n, 365) + 30, date '2025-01-01'), current_timestamp from (select \"X\" as n from system_range(1, ?)) r",
+                USERS, SCHEDULES);
+        jdbcTemplate.update("insert into floors (schedule_id, creator_user_id, title, scheduled_date, created_at) "
+                + "select mod(n, ?) + 1, mod(mod(n, ?) + 1, ?) + 1, 'floor ' || n, dateadd('DAY', mod(n, 730), date '2025-01-01'), "
+                + "current_timestamp from (select \"X\" as n from system_range(1, ?)) r",
+                SCHEDULES, SCHEDULES, USERS, FLOORS);
+        jdbcTemplate.update("insert into floor_statuses (floor_id, user_id, is_completed, completed_at, created_at) "
+                + "select n * 5, mod(n * 5, ?) + 1, true, current_timestamp, current_timestamp from (select \"X\" as n from system_range(1, ?)) r",
+                USERS, STATUSES);
+        jdbcTemplate.execute("analyze");
+    }
+
+    @AfterAll
+    void dropAll() {
+        jdbcTemplate.execute("drop all objects");
+    }
+
+    @Test
+    void hotRepositoryQueriesUseIndexes() throws SQLException {
+        LocalDate date = BASE_DATE.plusDays(100);
+        Map<String, Runnable> queries = new TreeMap<>();
+        queries.put("FloorPlanRepository.findFloorResponses", () -> floorPlanRepository.findFloorResponses(7L, date));
+        queries.put("FloorPlanRepository.findByCreatorUserIdAndScheduledDate",
+                () -> floorPlanRepository.findByCreatorUserIdAndScheduledDate(7L, date));
+        queries.put("FloorPlanRepository.findBySchedule_ScheduleId", () -> floorPlanRepository.findBySchedule_ScheduleId(42L));
+        queries.put("FloorPlanRepository.countBySchedule", () -> floorPlanRepository.countBySchedule(List.of(1L, 2L, 3L)));
+        queries.put("FloorPlanRepository.findBySchedule_ScheduleIdIn",
+                () -> floorPlanRepository.findBySchedule_ScheduleIdInOrderByScheduledDateAscFloorIdAsc(List.of(1L, 2L, 3L)));
+        queries.put("FloorStatusRepository.findCompletedFloorIds",
+                () -> floorStatusRepository.findCompletedFloorIds(7L, List.of(5L, 10L, 15L)));
+        queries.put("FloorStatusRepository.findCompletedFloors", () -> floorStatusRepository.findCompletedFloors(7L));
+        queries.put("FloorStatusRepository.existsByFloor_FloorIdAndUser_UserId",
+                () -> floorStatusRepository.existsByFloor_FloorIdAndUser_UserId(5L, 6L));
+        queries.put("ScheduleRepository.findByScheduleIdAndCreatorUserId",
+                () -> scheduleRepository.findByScheduleIdAndCreatorUserId(42L, 43L));
+        queries.put("ScheduleRepository.findByCreatorUserId (keyset)", () -> scheduleRepository.findByCreatorUserId(7L,
+                ScrollPosition.forward(Map.of("startDate", date, "scheduleId", 500L)),
+                Sort.by("startDate", "scheduleId"), Limit.of(20)));
+
+        List<String> failures = new ArrayList<>();
+        for (Map.Entry<String, Runnable> query : queries.entrySet()) {
+            for (String plan : explain(query.getValue())) {
+                if (plan.toLowerCase().contains("tablescan")) {
+                    failures.add(query.getKey() + ":\n" + plan);
+                }
+            }
+        }
+        assertTrue(failures.isEmpty(), "sequential scans:\n" + String.join("\n\n", failures));
+    }
+
+    @Test
+    void checkDetectsMissingIndex() throws SQLException {
+        // 인덱스가 없으면 같은 검사가 실패해야 의미가 있다
+        jdbcTemplate.execute("drop index idx_floors_creator_date");
+        try {
+            List<String> plans = explain(() -> floorPlanRepository.findByCreatorUserIdAndScheduledDate(7L, BASE_DATE));
+            assertFalse(plans.isEmpty());
+            assertTrue(plans.get(0).toLowerCase().contains("tablescan"), plans.get(0));
+        } finally {
+            jdbcTemplate.execute("create index idx_floors_creator_date on floors (creator_user_id, scheduled_date)");
+        }
+    }
+
+    /** 쿼리를 실행하면서 기록한 SQL과 바인딩 값으로 EXPLAIN 결과를 만든다 */
+    private List<String> explain(Runnable query) throws SQLException {
+        List<RecordedStatement> recorded = Recorder.record(query);
+        List<String> plans = new ArrayList<>();
+        try (Connection con = dataSource.getConnection()) {
+            for (RecordedStatement statement : recorded) {
+                try (PreparedStatement ps = con.prepareStatement("explain " + statement.sql())) {
+                    for (Map.Entry<Integer, Object> param : statement.params().entrySet()) {
+                        ps.setObject(param.getKey(), param.getValue());
+                    }
+                    try (ResultSet rs = ps.executeQuery()) {
+                        rs.next();
+                        plans.add(rs.getString(1));
+                    }
+                }
+            }
+        }
+        return plans;
+    }
+
+    record RecordedStatement(String sql, Map<Integer, Object> params) {}
+
+    /** 기록 중에 준비된 PreparedStatement의 SQL과 set* 값을 모은다 */
+    static final class Recorder {
+        private static final ThreadLocal<List<RecordedStatement>> CURRENT = new ThreadLocal<>();
+
+        static List<RecordedStatement> record(Runnable query) {
+            List<RecordedStatement> statements = new ArrayList<>();
+            CURRENT.set(statements);
+            try {
+                query.run();
+            } finally {
+                CURRENT.remove();
+            }
+            return statements;
+        }
+
+        static DataSource wrap(DataSource target) {
+            return new DelegatingDataSource(target) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    Connection con = target.getConnection();
+                    return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                            new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                                Object result = invoke(con, method, args);
+                                List<RecordedStatement> statements = CURRENT.get();
+                                if (statements != null && result instanceof PreparedStatement ps
+                                        && method.getName().equals("prepareStatement")) {
+                                    RecordedStatement recorded = new RecordedStatement((String) args[0], new TreeMap<>());
+                                    statements.add(recorded);
+                                    return Proxy.newProxyInstance(getClass().getClassLoader(),
+                                            new Class<?>[] {PreparedStatement.class}, (p, m, a) -> {
+                                                if (m.getName().startsWith("set") && a != null && a.length >= 2
+                                                        && a[0] instanceof Integer index) {
+                                                    recorded.params().put(index, m.getName().equals("setNull") ? null : a[1]);
+                                                }
+                                                return invoke(ps, m, a);
+                                            });
+                                }
+                                return result;
+                            });
+                }
+            };
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class RecordingDataSourceConfig {
+        @Bean
+        static BeanPostProcessor recordingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource ds && beanName.equals("dataSource") ? Recorder.wrap(ds) : bean;
+                }
+            };
+        }
+    }
+}
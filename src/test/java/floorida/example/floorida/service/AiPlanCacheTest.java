@@ -0,0 +1,120 @@
+package floorida.example.floorida.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpServer;
+
+import floorida.example.floorida.service.AiPlanningService.AiFloor;
+
+/**
+ * 호출 수를 세는 스텁 LLM으로 계획 캐시의 정규화/재배치/영속화를 확인합니다.
+ */
+@SpringBootTest(properties = "OPENAI_API_KEY=test-key")
+@ActiveProfiles("test")
+class AiPlanCacheTest {
+
+    private static final Pattern RANGE = Pattern.compile("start: (\\d{4}-\\d{2}-\\d{2})\\\\nend: (\\d{4}-\\d{2}-\\d{2})");
+    private static final AtomicInteger LLM_CALLS = new AtomicInteger();
+    private static final HttpServer STUB_LLM;
+
+    static {
+        try {
+            STUB_LLM = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        STUB_LLM.createContext("/v1/chat/completions", exchange -> {
+            LLM_CALLS.incrementAndGet();
+            String request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            Matcher m = RANGE.matcher(request);
+            m.find();
+            byte[] body = chatCompletion(LocalDate.parse(m.group(1)), LocalDate.parse(m.group(2)))
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        STUB_LLM.start();
+    }
+
+    @DynamicPropertySource
+    static void llmProperties(DynamicPropertyRegistry registry) {
+        registry.add("openai.api.base-url", () -> "http://localhost:" + STUB_LLM.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB_LLM.stop(0);
+    }
+
+    @Autowired
+    private AiPlanningService aiPlanningService;
+    @Autowired
+    private AiPlanCache planCache;
+
+    @Test
+    void similarGoalsReuseOnePlanRebasedOntoNewStartDate() {
+        String goal = "토익 900점 " + UUID.randomUUID();
+        int before = LLM_CALLS.get();
+        long hitsBefore = planCache.hitCount();
+
+        List<AiFloor> first = aiPlanningService.plan(goal, LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 3));
+        assertEquals(before + 1, LLM_CALLS.get());
+
+        // 공백/대소문자/전각 문자 차이는 같은 키로 정규화된다
+        String variant = "  " + goal.toUpperCase().replace(" ", "   ").replace("9", "９") + " ";
+        List<AiFloor> rebased = aiPlanningService.plan(variant, LocalDate.of(2026, 1, 10), LocalDate.of(2026, 1, 12));
+        assertEquals(before + 1, LLM_CALLS.get());
+        assertEquals(first.size(), rebased.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).title(), rebased.get(i).title());
+            assertEquals(LocalDate.of(2026, 1, 10).plusDays(i), rebased.get(i).date());
+        }
+
+        // 메모리 캐시를 비워도 테이블에서 복원된다 (재시작 시나리오)
+        planCache.invalidateAll();
+        aiPlanningService.plan(goal, LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 3));
+        assertEquals(before + 1, LLM_CALLS.get());
+        assertEquals(hitsBefore + 2, planCache.hitCount());
+
+        // 기간 길이가 다르면 새로 생성한다
+        aiPlanningService.plan(goal, LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 5));
+        assertEquals(before + 2, LLM_CALLS.get());
+    }
+
+    private static String chatCompletion(LocalDate start, LocalDate end) {
+        ObjectMapper om = new ObjectMapper();
+        ObjectNode plan = om.createObjectNode();
+        var floors = plan.putArray("floors");
+        int idx = 1;
+        for (LocalDate d = start; !d.isAfter(end); d = d.plusDays(1)) {
+            floors.addObject().put("title", "스텁 단계 " + idx++).put("date", d.toString());
+        }
+        ObjectNode root = om.createObjectNode();
+        root.putArray("choices").addObject().putObject("message").put("role", "assistant").put("content", plan.toString());
+        return root.toString();
+    }
+}
@@ -0,0 +1,260 @@
+package floorida.example.floorida.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import floorida.example.floorida.config.jwt.AuthenticatedUser;
+import floorida.example.floorida.dto.FloorBatchCompleteResponse;
+import floorida.example.floorida.dto.FloorBatchCompleteResponse.Outcome;
+import floorida.example.floorida.entity.FloorPlan;
+import floorida.example.floorida.entity.Schedule;
+import floorida.example.floorida.entity.User;
+import floorida.example.floorida.entity.UserProfile;
+import floorida.example.floorida.repository.FloorStatusRepository;
+import floorida.example.floorida.repository.ScheduleRepository;
+import floorida.example.floorida.repository.UserProfileRepository;
+import floorida.example.floorida.repository.UserRepository;
+
+/**
+ * 여러 Floor 일괄 완료: Floor별 결과, 중복 ID, 합산 보상, 요청당 SQL 문 수,
+ * 동시에 같은 Floor가 완료되었을 때의 결과를 확인합니다.
+ *
+ * JdbcTemplate 배치 INSERT는 Hibernate 통계에 잡히지 않으므로
+ * DataSource를 감싸 현재 스레드에서 준비된 SQL 문 수를 직접 셉니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class FloorBatchCompleteTest {
+
+    @Autowired
+    private FloorService floorService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserProfileService userProfileService;
+    @Autowired
+    private UserProfileRepository userProfileRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private FloorStatusRepository floorStatusRepository;
+    @Autowired
+    private StatementCounter statementCounter;
+
+    private User user;
+    private User otherUser;
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        user = newUser("batch");
+        otherUser = newUser("other");
+        userProfileService.ensureSignupBonusOnFirstLogin(user);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(user.getUserId(), user.getEmail(), user.getUsername()), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        statementCounter.beforeStatusInsert.set(null);
+    }
+
+    @Test
+    void mixedBatchReportsEachFloorAndAwardsSummedRewards() {
+        List<Long> mine = createFloors(user, 3);
+        Long foreign = createFloors(otherUser, 1).get(0);
+        Long missing = Long.MAX_VALUE;
+        floorService.completeFloors(List.of(mine.get(0)));
+        UserProfile before = userProfileRepository.findById(user.getUserId()).orElseThrow();
+
+        FloorBatchCompleteResponse response = floorService.completeFloors(
+                List.of(mine.get(0), mine.get(1), mine.get(1), foreign, missing, mine.get(2)));
+
+        Map<Long, Outcome> outcomes = outcomes(response);
+        assertEquals(5, response.getResults().size());
+        assertEquals(Outcome.ALREADY_COMPLETED, outcomes.get(mine.get(0)));
+        assertEquals(Outcome.COMPLETED, outcomes.get(mine.get(1)));
+        assertEquals(Outcome.NOT_AUTHORIZED, outcomes.get(foreign));
+        assertEquals(Outcome.NOT_FOUND, outcomes.get(missing));
+        assertEquals(Outcome.COMPLETED, outcomes.get(mine.get(2)));
+        assertEquals(2, response.getCompletedCount());
+        assertEquals(20, response.getPointsAwarded());
+
+        UserProfile after = userProfileRepository.findById(user.getUserId()).orElseThrow();
+        assertEquals(before.getPoints() + 20, after.getPoints());
+        assertEquals(before.getPersonalLevel() + 2, after.getPersonalLevel());
+        assertEquals(3, floorStatusRepository.findCompletedFloorIds(user.getUserId(), mine).size());
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithBatchSize() {
+        long fewFloors = countStatements(createFloors(user, 2));
+        long manyFloors = countStatements(createFloors(user, 50));
+
+        // Floor 조회 + 완료 여부 조회 + 배치 INSERT + 보상 UPDATE
+        assertEquals(4, fewFloors);
+        assertEquals(fewFloors, manyFloors);
+    }
+
+    @Test
+    void concurrentlyCompletedFloorIsReportedInsteadOfFailingTheBatch() {
+        List<Long> floors = createFloors(user, 3);
+        Long raced = floors.get(1);
+        UserProfile before = userProfileRepository.findById(user.getUserId()).orElseThrow();
+
+        // 완료 여부를 확인한 뒤 INSERT 직전에 다른 요청이 같은 Floor를 먼저 완료한 상황
+        statementCounter.beforeStatusInsert.set(() -> {
+            statementCounter.beforeStatusInsert.set(null);
+            new JdbcTemplate(statementCounter.target).update(
+                    "insert into floor_statuses (floor_id, user_id, is_completed, completed_at, created_at)"
+                            + " values (?, ?, true, current_timestamp, current_timestamp)",
+                    raced, user.getUserId());
+        });
+
+        FloorBatchCompleteResponse response = floorService.completeFloors(floors);
+
+        Map<Long, Outcome> outcomes = outcomes(response);
+        assertEquals(Outcome.COMPLETED, outcomes.get(floors.get(0)));
+        assertEquals(Outcome.ALREADY_COMPLETED, outcomes.get(raced));
+        assertEquals(Outcome.COMPLETED, outcomes.get(floors.get(2)));
+        assertEquals(2, response.getCompletedCount());
+        UserProfile after = userProfileRepository.findById(user.getUserId()).orElseThrow();
+        assertEquals(before.getPoints() + 20, after.getPoints());
+        assertEquals(3, floorStatusRepository.findCompletedFloorIds(user.getUserId(), floors).size());
+    }
+
+    private long countStatements(List<Long> floorIds) {
+        statementCounter.counting.set(true);
+        long before = statementCounter.count.get();
+        try {
+            assertEquals(floorIds.size(), floorService.completeFloors(floorIds).getCompletedCount());
+            return statementCounter.count.get() - before;
+        } finally {
+            statementCounter.counting.remove();
+        }
+    }
+
+    private static Map<Long, Outcome> outcomes(FloorBatchCompleteResponse response) {
+        return response.getResults().stream().collect(Collectors.toMap(
+                FloorBatchCompleteResponse.Result::getFloorId, FloorBatchCompleteResponse.Result::getOutcome));
+    }
+
+    private User newUser(String prefix) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User created = new User();
+        created.setEmail(prefix + "-" + suffix + "@floorida.site");
+        created.setUsername(prefix + "-" + suffix);
+        created.setPasswordHash("x");
+        return userRepository.save(created);
+    }
+
+    private List<Long> createFloors(User owner, int count) {
+        Schedule schedule = new Schedule();
+        schedule.setCreatorUserId(owner.getUserId());
+        schedule.setTitle("일괄 완료");
+        schedule.setStartDate(today);
+        schedule.setEndDate(today);
+        schedule.setColor("#FF6B6B");
+        IntStream.range(0, count).forEach(i -> {
+            FloorPlan floor = new FloorPlan();
+            floor.setCreatorUserId(owner.getUserId());
+            floor.setTitle("할 일 " + i);
+            floor.setScheduledDate(today);
+            schedule.addFloor(floor);
+        });
+        List<Long> ids = new ArrayList<>();
+        scheduleRepository.save(schedule).getFloors().forEach(f -> ids.add(f.getFloorId()));
+        return ids;
+    }
+
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        @Bean
+        StatementCounter statementCounter() {
+            return new StatementCounter();
+        }
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSource(ObjectProvider<StatementCounter> counter) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? counter.getObject().wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    static final class StatementCounter {
+        final AtomicLong count = new AtomicLong();
+        final ThreadLocal<Boolean> counting = new ThreadLocal<>();
+        final AtomicReference<Runnable> beforeStatusInsert = new AtomicReference<>();
+        DataSource target;
+
+        DataSource wrap(DataSource dataSource) {
+            target = dataSource;
+            return proxy(DataSource.class, dataSource, (result) -> result instanceof Connection connection
+                    ? proxy(Connection.class, connection, Function.identity(), this::onConnectionCall)
+                    : result, (method, args) -> { });
+        }
+
+        private void onConnectionCall(String method, Object[] args) {
+            if (!method.equals("prepareStatement") && !method.equals("prepareCall") && !method.equals("createStatement")) {
+                return;
+            }
+            if (Boolean.TRUE.equals(counting.get())) {
+                count.incrementAndGet();
+            }
+            Runnable hook = beforeStatusInsert.get();
+            if (hook != null && args != null && args[0] instanceof String sql
+                    && sql.startsWith("insert into floor_statuses")) {
+                hook.run();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, Function<Object, Object> wrapResult,
+                                   BiConsumer<String, Object[]> beforeCall) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (p, method, args) -> {
+                beforeCall.accept(method.getName(), args);
+                try {
+                    return wrapResult.apply(method.invoke(target, args));
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package floorida.example.floorida.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import floorida.example.floorida.config.jwt.AuthenticatedUser;
+import floorida.example.floorida.entity.FloorPlan;
+import floorida.example.floorida.entity.Schedule;
+import floorida.example.floorida.entity.User;
+import floorida.example.floorida.repository.ScheduleRepository;
+import floorida.example.floorida.repository.UserRepository;
+
+/**
+ * 완료 인덱스가 floor_statuses에서 구성되고, 완료는 커밋된 경우에만 반영되며,
+ * 일정 삭제와 rebuild 뒤에는 DB 기준으로 다시 만들어지는지 실제 DB로 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class FloorCompletionIndexPersistenceTest {
+
+    @Autowired
+    private FloorCompletionIndex floorCompletionIndex;
+    @Autowired
+    private FloorService floorService;
+    @Autowired
+    private ScheduleService scheduleService;
+    @Autowired
+    private UserProfileService userProfileService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User created = new User();
+        created.setEmail("index-" + suffix + "@floorida.site");
+        created.setUsername("index-" + suffix);
+        created.setPasswordHash("x");
+        user = userRepository.save(created);
+        userProfileService.ensureSignupBonusOnFirstLogin(user);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(user.getUserId(), user.getEmail(), user.getUsername()), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void warmsFromFloorStatuses() {
+        Schedule first = createSchedule(3);
+        Schedule second = createSchedule(2);
+        insertStatus(floorId(first, 0));
+        insertStatus(floorId(first, 2));
+        insertStatus(floorId(second, 1));
+        assertNull(floorCompletionIndex.getCache().getIfPresent(user.getUserId()));
+
+        FloorCompletionIndex.UserCompletions completions = floorCompletionIndex.forUser(user.getUserId());
+
+        assertTrue(completions.isCompleted(floorId(first, 0)));
+        assertFalse(completions.isCompleted(floorId(first, 1)));
+        assertTrue(completions.isCompleted(floorId(second, 1)));
+        assertEquals(2, completions.completedCount(first.getScheduleId()));
+        assertEquals(1, completions.completedCount(second.getScheduleId()));
+        assertEquals(3, completions.size());
+    }
+
+    @Test
+    void completionIsAppliedOnlyAfterCommit() {
+        Schedule schedule = createSchedule(2);
+        Long committed = floorId(schedule, 0);
+        Long rolledBack = floorId(schedule, 1);
+        FloorCompletionIndex.UserCompletions warmed = floorCompletionIndex.forUser(user.getUserId());
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            floorService.completeFloor(committed);
+            // 커밋 전에는 다른 요청이 보지 못한 완료를 인덱스에도 반영하지 않는다
+            assertFalse(floorCompletionIndex.isCompleted(user.getUserId(), committed));
+        });
+        transactionTemplate.executeWithoutResult(tx -> {
+            floorService.completeFloor(rolledBack);
+            tx.setRollbackOnly();
+        });
+
+        // 다시 읽지 않고 같은 인덱스에 커밋된 완료만 더해졌는지
+        assertSame(warmed, floorCompletionIndex.forUser(user.getUserId()));
+        assertTrue(warmed.isCompleted(committed));
+        assertFalse(warmed.isCompleted(rolledBack));
+        assertEquals(1, warmed.completedCount(schedule.getScheduleId()));
+        assertEquals(1, countStatuses());
+    }
+
+    @Test
+    void scheduleDeleteInvalidatesTheUserIndex() {
+        Schedule kept = createSchedule(2);
+        Schedule deleted = createSchedule(1);
+        FloorCompletionIndex.UserCompletions warmed = floorCompletionIndex.forUser(user.getUserId());
+        // 인덱스를 거치지 않은 완료 기록으로 인덱스를 일부러 어긋나게 둔다
+        insertStatus(floorId(kept, 1));
+        assertFalse(warmed.isCompleted(floorId(kept, 1)));
+
+        scheduleService.delete(deleted.getScheduleId());
+
+        assertNull(floorCompletionIndex.getCache().getIfPresent(user.getUserId()));
+        FloorCompletionIndex.UserCompletions reloaded = floorCompletionIndex.forUser(user.getUserId());
+        assertNotSame(warmed, reloaded);
+        assertTrue(reloaded.isCompleted(floorId(kept, 1)));
+        assertEquals(1, reloaded.completedCount(kept.getScheduleId()));
+    }
+
+    @Test
+    void rebuildReplacesTheCachedIndexFromTheDatabase() {
+        Schedule schedule = createSchedule(3);
+        FloorCompletionIndex.UserCompletions warmed = floorCompletionIndex.forUser(user.getUserId());
+        insertStatus(floorId(schedule, 0));
+        insertStatus(floorId(schedule, 1));
+        assertEquals(0, warmed.size());
+
+        FloorCompletionIndex.UserCompletions rebuilt = floorCompletionIndex.rebuild(user.getUserId());
+
+        assertSame(rebuilt, floorCompletionIndex.forUser(user.getUserId()));
+        assertEquals(2, rebuilt.size());
+        assertEquals(2, rebuilt.completedCount(schedule.getScheduleId()));
+        assertTrue(floorCompletionIndex.isCompleted(user.getUserId(), floorId(schedule, 1)));
+        assertFalse(floorCompletionIndex.isCompleted(user.getUserId(), floorId(schedule, 2)));
+    }
+
+    private void insertStatus(Long floorId) {
+        jdbcTemplate.update(
+                "insert into floor_statuses (floor_id, user_id, is_completed, completed_at, created_at)"
+                        + " values (?, ?, true, current_timestamp, current_timestamp)",
+                floorId, user.getUserId());
+    }
+
+    private int countStatuses() {
+        return jdbcTemplate.queryForObject("select count(*) from floor_statuses where user_id = ?",
+                Integer.class, user.getUserId());
+    }
+
+    private static Long floorId(Schedule schedule, int index) {
+        return schedule.getFloors().get(index).getFloorId();
+    }
+
+    private Schedule createSchedule(int floors) {
+        LocalDate today = LocalDate.now();
+        Schedule schedule = new Schedule();
+        schedule.setCreatorUserId(user.getUserId());
+        schedule.setTitle("완료 인덱스");
+        schedule.setStartDate(today);
+        schedule.setEndDate(today);
+        schedule.setColor("#FF6B6B");
+        IntStream.range(0, floors).forEach(i -> {
+            FloorPlan floor = new FloorPlan();
+            floor.setCreatorUserId(user.getUserId());
+            floor.setTitle("할 일 " + i);
+            floor.setScheduledDate(today);
+            schedule.addFloor(floor);
+        });
+        return scheduleRepository.save(schedule);
+    }
+}
@@ -0,0 +1,42 @@
+package floorida.example.floorida.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class FloorCompletionIndexTest {
+
+    @Test
+    void tracksCompletionAndPerScheduleCounts() {
+        FloorCompletionIndex.UserCompletions completions = new FloorCompletionIndex.UserCompletions();
+        completions.add(10L, 1L);
+        completions.add(11L, 1L);
+        completions.add(20L, 2L);
+        completions.add(10L, 1L); // 중복 완료는 한 번만 센다
+
+        assertTrue(completions.isCompleted(10L));
+        assertFalse(completions.isCompleted(12L));
+        assertEquals(2, completions.completedCount(1L));
+        assertEquals(1, completions.completedCount(2L));
+        assertEquals(0, completions.completedCount(3L));
+        assertEquals(3, completions.size());
+    }
+
+    @Test
+    void reportsMemoryPer100kCompletions() {
+        FloorCompletionIndex.UserCompletions completions = new FloorCompletionIndex.UserCompletions();
+        // 일정 1000개 × 일정당 100개 Floor, ID는 연속적으로 증가
+        for (long floorId = 1; floorId <= 100_000; floorId++) {
+            completions.add(floorId, (floorId - 1) / 100);
+        }
+        FloorCompletionIndex.MemoryReport report =
+                new FloorCompletionIndex.MemoryReport(1, completions.size(), completions.estimatedBytes());
+
+        assertEquals(100_000, report.completions());
+        // 비트맵 자체는 수십 KB 수준, 일정별 카운트 포함 100KB 미만이어야 한다
+        assertTrue(report.bytesPer100kCompletions() < 100_000,
+                "bytes per 100k completions: " + report.bytesPer100kCompletions());
+    }
+}
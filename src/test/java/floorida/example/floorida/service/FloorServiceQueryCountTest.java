@@ -0,0 +1,129 @@
+package floorida.example.floorida.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import floorida.example.floorida.config.jwt.AuthenticatedUser;
+import floorida.example.floorida.dto.FloorResponse;
+import floorida.example.floorida.entity.FloorPlan;
+import floorida.example.floorida.entity.FloorStatus;
+import floorida.example.floorida.entity.Schedule;
+import floorida.example.floorida.entity.User;
+import floorida.example.floorida.repository.FloorStatusRepository;
+import floorida.example.floorida.repository.ScheduleRepository;
+import floorida.example.floorida.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class FloorServiceQueryCountTest {
+
+    @Autowired
+    private FloorService floorService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private FloorStatusRepository floorStatusRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TodayViewCache todayViewCache;
+
+    private User user;
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        user = new User();
+        user.setEmail("floors-" + suffix + "@floorida.site");
+        user.setUsername("floors-" + suffix);
+        user.setPasswordHash("x");
+        user = userRepository.save(user);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(user.getUserId(), user.getEmail(), user.getUsername()), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void todayViewUsesOneStatementRegardlessOfFloorCount() {
+        createSchedules(2);
+        long fewFloors = countStatements();
+
+        createSchedules(20);
+        long manyFloors = countStatements();
+
+        assertEquals(1, fewFloors);
+        assertEquals(fewFloors, manyFloors);
+    }
+
+    @Test
+    void todayViewCarriesScheduleInfoAndCompletion() {
+        List<Schedule> schedules = createSchedules(2);
+        FloorPlan done = schedules.get(0).getFloors().get(0);
+        FloorStatus status = new FloorStatus();
+        status.setFloor(done);
+        status.setUser(user);
+        status.setIsCompleted(true);
+        status.setCompletedAt(Instant.now());
+        floorStatusRepository.save(status);
+
+        List<FloorResponse> floors = floorService.getTodayFloors();
+
+        assertEquals(2, floors.size());
+        for (FloorResponse f : floors) {
+            assertEquals("#FF6B6B", f.getScheduleColor());
+            assertTrue(f.getScheduleTitle().startsWith("일정 "));
+            assertEquals(f.getFloorId().equals(done.getFloorId()), f.getCompleted());
+        }
+    }
+
+    private long countStatements() {
+        // 리포지토리로 직접 넣은 데이터는 변경 이벤트가 없으므로 캐시를 비우고 조회 쿼리 자체를 측정
+        todayViewCache.invalidate(user.getUserId());
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long before = stats.getPrepareStatementCount();
+        floorService.getTodayFloors();
+        return stats.getPrepareStatementCount() - before;
+    }
+
+    private List<Schedule> createSchedules(int count) {
+        return IntStream.range(0, count).mapToObj(i -> {
+            Schedule schedule = new Schedule();
+            schedule.setCreatorUserId(user.getUserId());
+            schedule.setTitle("일정 " + i);
+            schedule.setStartDate(today);
+            schedule.setEndDate(today);
+            schedule.setColor("#FF6B6B");
+            FloorPlan floor = new FloorPlan();
+            floor.setCreatorUserId(user.getUserId());
+            floor.setTitle("할 일 " + i);
+            floor.setScheduledDate(today);
+            schedule.addFloor(floor);
+            return scheduleRepository.save(schedule);
+        }).toList();
+    }
+}
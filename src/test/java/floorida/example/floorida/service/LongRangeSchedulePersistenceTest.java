@@ -0,0 +1,107 @@
+package floorida.example.floorida.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import floorida.example.floorida.dto.AiScheduleRequest;
+import floorida.example.floorida.dto.ScheduleResponse;
+import floorida.example.floorida.entity.User;
+import floorida.example.floorida.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+
+/**
+ * 10년 기간의 기본(fallback) 계획을 저장해도 영속성 컨텍스트가 청크 크기 이상으로 커지지 않고,
+ * 저장 후 남는 힙과 Floor당 할당량이 상한 안에 드는지 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LongRangeSchedulePersistenceTest {
+
+    private static final int DAYS = 3650;
+    // 저장 후에는 응답 DTO(Floor당 수백 바이트)만 남아야 한다. GC/다른 스레드 잡음을 감안한 상한
+    private static final long MAX_RETAINED_BYTES = 8L * 1024 * 1024;
+    private static final long MAX_ALLOCATED_BYTES_PER_FLOOR = 32L * 1024;
+
+    @Autowired
+    private ScheduleService scheduleService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManager entityManager;
+    @Value("${floorida.schedule.floor-chunk-size:500}")
+    private int chunkSize;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setEmail("long-" + suffix + "@floorida.site");
+        user.setUsername("long-" + suffix);
+        user.setPasswordHash("x");
+        userId = userRepository.save(user).getUserId();
+    }
+
+    @Test
+    void tenYearPlanKeepsPersistenceContextBounded() {
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        AiScheduleRequest req = request(start, start.plusDays(DAYS - 1));
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            System.gc();
+            long before = memory.getHeapMemoryUsage().getUsed();
+            long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+
+            ScheduleResponse response = scheduleService.planAndPersist(userId, req);
+            long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+            // 같은 트랜잭션 안에서 저장 직후 남아 있는 관리 엔티티와 힙 사용량
+            int managed = entityManager.unwrap(SessionImplementor.class)
+                    .getPersistenceContextInternal().getNumberOfManagedEntities();
+            System.gc();
+            long retained = memory.getHeapMemoryUsage().getUsed() - before;
+
+            assertEquals(DAYS, response.getFloors().size());
+            assertTrue(managed <= chunkSize + 1, "managed entities: " + managed);
+            assertTrue(retained < MAX_RETAINED_BYTES, "retained heap: " + retained / 1024 + " KB");
+            assertTrue(allocated / DAYS < MAX_ALLOCATED_BYTES_PER_FLOOR,
+                    "allocated per floor: " + allocated / DAYS + " bytes");
+            status.setRollbackOnly();
+        });
+    }
+
+    @Test
+    void rangeLongerThanLimitIsRejected() {
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduleService.planAndPersist(userId, request(start, start.plusYears(20))));
+    }
+
+    private static AiScheduleRequest request(LocalDate start, LocalDate end) {
+        AiScheduleRequest req = new AiScheduleRequest();
+        req.setGoal("장기 목표 " + UUID.randomUUID());
+        req.setStartDate(start);
+        req.setEndDate(end);
+        return req;
+    }
+}
@@ -0,0 +1,203 @@
+package floorida.example.floorida.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import floorida.example.floorida.dto.LoginRequest;
+import floorida.example.floorida.entity.User;
+import floorida.example.floorida.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 저장된 해시의 강도가 설정과 다르면 로그인 때 다시 해시되는지,
+ * 해시 실행기가 가득 차면 로그인이 기다리지 않고 429로 거절되는지,
+ * 검증이 끝난 뒤에 가득 차면 다시 해시만 건너뛰고 로그인은 성공하는지 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "floorida.password.bcrypt-strength=5",
+        "floorida.password.threads=1",
+        "floorida.password.queue-capacity=1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PasswordHashingServiceTest {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    // 해시 실행기 스레드에서 matches 도중 실행할 동작 (검증과 다시 해시 사이에 실행기를 채우기 위함)
+    private static volatile Runnable onMatches = () -> { };
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    @Qualifier("passwordHashingExecutor")
+    private ThreadPoolTaskExecutor passwordHashingExecutor;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void loginRehashesWhenStoredStrengthDiffers() {
+        User user = user(new BCryptPasswordEncoder(4).encode(PASSWORD));
+        assertEquals(4, PasswordHashingService.bcryptCost(user.getPasswordHash()));
+
+        userService.authenticateOrThrow(login(user));
+        String upgraded = userRepository.findById(user.getUserId()).orElseThrow().getPasswordHash();
+        assertEquals(5, PasswordHashingService.bcryptCost(upgraded));
+
+        // 이미 설정 강도면 다시 저장하지 않는다
+        userService.authenticateOrThrow(login(user));
+        assertEquals(upgraded, userRepository.findById(user.getUserId()).orElseThrow().getPasswordHash());
+    }
+
+    @Test
+    void fullHashingQueueRejectsLoginWith429() throws Exception {
+        User user = user(new BCryptPasswordEncoder(5).encode(PASSWORD));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // 스레드 1개를 붙잡고 대기열 1칸을 채운다
+        Future<?> running = passwordHashingExecutor.submit(() -> {
+            started.countDown();
+            await(release);
+        });
+        started.await();
+        Future<?> queued = passwordHashingExecutor.submit(() -> await(release));
+        try {
+            mockMvc.perform(post("/api/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"email\":\"" + user.getEmail() + "\",\"password\":\"" + PASSWORD + "\"}"))
+                    .andExpect(status().isTooManyRequests());
+        } finally {
+            release.countDown();
+        }
+        running.get();
+        queued.get();
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + user.getEmail() + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void fullHashingQueueAfterVerificationSkipsRehashButLogsIn() throws Exception {
+        User user = user(new BCryptPasswordEncoder(4).encode(PASSWORD));
+        double skipped = meterRegistry.get("floorida.password.rehash.skipped").counter().count();
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?>[] fillers = new Future<?>[2];
+        // 검증(matches)이 스레드 1개를 쓰는 동안 스레드를 잠시 하나 늘려 붙잡고 대기열 1칸도 채운 뒤 다시 1개로 줄인다.
+        // 검증을 마친 스레드는 최대 크기를 넘으므로 대기열을 꺼내지 않고 종료해, 다시 해시는 반드시 거절된다
+        onMatches = () -> {
+            onMatches = () -> { };
+            passwordHashingExecutor.setMaxPoolSize(2);
+            passwordHashingExecutor.setCorePoolSize(2);
+            fillers[0] = passwordHashingExecutor.submit(() -> await(release));
+            fillers[1] = passwordHashingExecutor.submit(() -> await(release));
+            passwordHashingExecutor.setCorePoolSize(1);
+            passwordHashingExecutor.setMaxPoolSize(1);
+        };
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(30), () -> mockMvc.perform(post("/api/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"email\":\"" + user.getEmail() + "\",\"password\":\"" + PASSWORD + "\"}"))
+                    .andExpect(status().isOk()));
+        } finally {
+            onMatches = () -> { };
+            release.countDown();
+        }
+        fillers[0].get();
+        fillers[1].get();
+
+        assertEquals(skipped + 1, meterRegistry.get("floorida.password.rehash.skipped").counter().count());
+        assertEquals(4, PasswordHashingService.bcryptCost(
+                userRepository.findById(user.getUserId()).orElseThrow().getPasswordHash()));
+        // 실행기가 비면 다음 로그인 때 다시 해시한다
+        userService.authenticateOrThrow(login(user));
+        assertEquals(5, PasswordHashingService.bcryptCost(
+                userRepository.findById(user.getUserId()).orElseThrow().getPasswordHash()));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private User user(String passwordHash) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setEmail("hash-" + suffix + "@floorida.site");
+        user.setUsername("hash-" + suffix);
+        user.setPasswordHash(passwordHash);
+        return userRepository.save(user);
+    }
+
+    private static LoginRequest login(User user) {
+        LoginRequest req = new LoginRequest();
+        req.setEmail(user.getEmail());
+        req.setPassword(PASSWORD);
+        return req;
+    }
+
+    @TestConfiguration
+    static class HookedPasswordEncoderConfig {
+
+        /** 설정의 PasswordEncoder를 감싸 matches 도중 onMatches를 실행합니다. */
+        @Bean
+        static BeanPostProcessor hookedPasswordEncoder() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof PasswordEncoder delegate)) {
+                        return bean;
+                    }
+                    return new PasswordEncoder() {
+                        @Override
+                        public String encode(CharSequence rawPassword) {
+                            return delegate.encode(rawPassword);
+                        }
+
+                        @Override
+                        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                            boolean matched = delegate.matches(rawPassword, encodedPassword);
+                            onMatches.run();
+                            return matched;
+                        }
+
+                        @Override
+                        public boolean upgradeEncoding(String encodedPassword) {
+                            return delegate.upgradeEncoding(encodedPassword);
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package floorida.example.floorida.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import floorida.example.floorida.dto.UserProfileResponse;
+import floorida.example.floorida.entity.User;
+import floorida.example.floorida.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * write-behind 모드에서 보상이 조회에 바로 보이고, 한 번의 flush로 합쳐 반영되며,
+ * 롤백된 보상은 상쇄되고, 반영 전에 프로세스가 죽어도 저널로 정확히 한 번 복구되는지 확인합니다.
+ * 커넥션 풀을 작게 잡아 풀 크기보다 많은 조회/프로필 갱신/반영이 동시에 돌아도 커넥션을 기다리며 멈추지 않는지도 봅니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ProfileRewardBufferTest {
+
+    private static final Path JOURNAL_DIR = createTempDir();
+    private static final int POOL_SIZE = 4;
+    private static final int THREADS = POOL_SIZE * 4;
+
+    @DynamicPropertySource
+    static void writeBehind(DynamicPropertyRegistry registry) {
+        registry.add("floorida.rewards.write-behind.enabled", () -> "true");
+        registry.add("floorida.rewards.write-behind.journal-dir", JOURNAL_DIR::toString);
+        // 테스트가 직접 flush 하도록 주기 반영은 사실상 끔
+        registry.add("floorida.rewards.write-behind.flush-interval", () -> "PT1H");
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> POOL_SIZE);
+        // 커넥션을 기다리며 멈추면 테스트가 오래 걸리지 않고 예외로 실패하도록
+        registry.add("spring.datasource.hikari.connection-timeout", () -> "5000");
+    }
+
+    @Autowired
+    private UserProfileService userProfileService;
+    @Autowired
+    private ProfileRewardBuffer rewardBuffer;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setEmail("behind-" + suffix + "@floorida.site");
+        user.setUsername("behind-" + suffix);
+        user.setPasswordHash("x");
+        userId = userRepository.save(user).getUserId();
+        userProfileService.ensureSignupBonusOnFirstLogin(userRepository.getReferenceById(userId));
+    }
+
+    @Test
+    void pendingRewardsAreVisibleAndFlushedAsOneUpdate() throws Exception {
+        int completions = 500;
+        runInParallel(completions, i -> userProfileService.applyCompletionRewards(userId, 10, 1));
+
+        assertEquals(50, storedPoints(userId));
+        assertEquals(50 + completions * 10, userProfileService.getPoints(userId));
+        UserProfileResponse profile = userProfileService.getProfile(userId);
+        assertEquals(1 + completions, profile.getPersonalLevel());
+
+        assertTrue(rewardBuffer.flush() >= 1);
+        assertEquals(50 + completions * 10, storedPoints(userId));
+        assertEquals(1 + completions, storedLevel(userId));
+        assertEquals(50 + completions * 10, userProfileService.getPoints(userId));
+        // 반영된 세그먼트는 지워지고 기록 중인 세그먼트 하나만 남음
+        assertEquals(1, segmentCount(JOURNAL_DIR));
+    }
+
+    @Test
+    void rolledBackRewardIsCancelledAndProfileResponsesIncludePendingRewards() {
+        transactionTemplate.executeWithoutResult(tx -> {
+            userProfileService.applyCompletionRewards(userId, 10, 1);
+            tx.setRollbackOnly();
+        });
+        assertEquals(50, userProfileService.getPoints(userId));
+
+        userProfileService.applyCompletionRewards(userId, 100, 1);
+        // 조회를 반복해도 보류 중인 보상이 한 번만 더해지고, 온보딩 응답도 같은 값을 보여준다
+        assertEquals(150, userProfileService.getProfile(userId).getPoints());
+        assertEquals(150, userProfileService.getProfile(userId).getPoints());
+        UserProfileResponse onboarded = userProfileService.updateOnboarding(userId, "PLANS_ONLY", null);
+        assertEquals(150, onboarded.getPoints());
+        assertEquals(2, onboarded.getPersonalLevel());
+        assertEquals("PLANS_ONLY", onboarded.getPlanningTendency());
+        assertEquals(50, storedPoints(userId));
+
+        rewardBuffer.flush();
+        assertEquals(150, storedPoints(userId));
+        assertEquals(2, storedLevel(userId));
+        assertEquals(150, userProfileService.getProfile(userId).getPoints());
+        // 조회는 트랜잭션 밖에서만 (잠금을 기다리는 동안 커넥션을 쥐지 않도록)
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(
+                tx -> userProfileService.getPoints(userId)));
+    }
+
+    @Test
+    void moreConcurrentCallersThanConnectionsDoNotStall() {
+        AtomicInteger rewards = new AtomicInteger();
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                rewardBuffer.flush();
+            }
+        });
+
+        assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+            flusher.start();
+            try {
+                runInParallel(THREADS * 25, i -> {
+                    switch (i % 4) {
+                        case 0 -> {
+                            userProfileService.applyCompletionRewards(userId, 10, 1);
+                            rewards.incrementAndGet();
+                        }
+                        case 1 -> assertTrue(userProfileService.getPoints(userId) >= 0);
+                        case 2 -> assertTrue(userProfileService.getProfile(userId).getPoints() >= 50);
+                        default -> assertTrue(
+                                userProfileService.updateOnboarding(userId, "PLANS_AND_EXECUTES", null).getPoints() >= 50);
+                    }
+                });
+            } finally {
+                running.set(false);
+                flusher.join();
+            }
+        });
+
+        rewardBuffer.flush();
+        int expected = 50 + rewards.get() * 10;
+        assertEquals(expected, storedPoints(userId));
+        assertEquals(expected, userProfileService.getPoints(userId));
+    }
+
+    @Test
+    void deductionCountsPendingRewardsAndNeverOverdraws() {
+        userProfileService.applyCompletionRewards(userId, 100, 1);
+        // 보류 중인 100을 잔액으로 보고 차감 (DB 값은 보상이 반영될 때까지 음수)
+        userProfileService.deductPoints(userId, 120);
+        assertEquals(-70, storedPoints(userId));
+        assertEquals(30, userProfileService.getPoints(userId));
+        assertThrows(IllegalArgumentException.class, () -> userProfileService.deductPoints(userId, 31));
+
+        rewardBuffer.flush();
+        assertEquals(30, storedPoints(userId));
+        assertEquals(30, userProfileService.getPoints(userId));
+    }
+
+    @Test
+    void unflushedJournalIsReplayedExactlyOnceAfterCrash() throws Exception {
+        Path dir = createTempDir();
+        ProfileRewardBuffer crashed = standalone(dir);
+        crashed.add(userId, 10, 1);
+        crashed.add(userId, 10, 1);
+        crashed.add(userId, 10, 1);
+        crashed.closeJournal(); // flush 없이 종료
+        assertEquals(50, storedPoints(userId));
+
+        ProfileRewardBuffer restarted = standalone(dir);
+        assertEquals(80, storedPoints(userId));
+        assertEquals(4, storedLevel(userId));
+        restarted.closeJournal();
+
+        // 체크포인트 이후 레코드가 없으므로 다시 시작해도 중복 반영되지 않음
+        standalone(dir).closeJournal();
+        assertEquals(80, storedPoints(userId));
+    }
+
+    private ProfileRewardBuffer standalone(Path dir) throws IOException {
+        ProfileRewardBuffer buffer = new ProfileRewardBuffer(jdbcTemplate, transactionManager,
+                new SimpleMeterRegistry(), true, dir.toString(), true);
+        buffer.open();
+        return buffer;
+    }
+
+    private int storedPoints(Long id) {
+        return jdbcTemplate.queryForObject("select points from user_profiles where user_id = ?", Integer.class, id);
+    }
+
+    private int storedLevel(Long id) {
+        return jdbcTemplate.queryForObject("select personal_level from user_profiles where user_id = ?", Integer.class, id);
+    }
+
+    private static long segmentCount(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(".log")).count();
+        }
+    }
+
+    private static Path createTempDir() {
+        try {
+            return Files.createTempDirectory("reward-journal");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void runInParallel(int times, IntConsumer task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>(times);
+            for (int i = 0; i < times; i++) {
+                int n = i;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    task.accept(n);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
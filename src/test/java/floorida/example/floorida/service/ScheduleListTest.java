@@ -0,0 +1,157 @@
+package floorida.example.floorida.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import floorida.example.floorida.config.jwt.AuthenticatedUser;
+import floorida.example.floorida.dto.ScheduleListResponse;
+import floorida.example.floorida.dto.ScheduleListResponse.Filter;
+import floorida.example.floorida.dto.ScheduleListResponse.FloorsMode;
+import floorida.example.floorida.dto.ScheduleResponse;
+import floorida.example.floorida.entity.FloorPlan;
+import floorida.example.floorida.entity.Schedule;
+import floorida.example.floorida.entity.User;
+import floorida.example.floorida.repository.ScheduleRepository;
+import floorida.example.floorida.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ScheduleListTest {
+
+    private static final int SCHEDULES = 25;
+    private static final int FLOORS_PER_SCHEDULE = 3;
+
+    @Autowired
+    private ScheduleService scheduleService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private FloorCompletionIndex floorCompletionIndex;
+
+    private final LocalDate today = LocalDate.now();
+    private List<Schedule> created;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setEmail("list-" + suffix + "@floorida.site");
+        user.setUsername("list-" + suffix);
+        user.setPasswordHash("x");
+        user = userRepository.save(user);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(user.getUserId(), user.getEmail(), user.getUsername()), null, List.of()));
+
+        created = new ArrayList<>();
+        for (int i = 0; i < SCHEDULES; i++) {
+            // 시작일이 같은 일정이 여러 개 있어야 ID 보조 정렬 키가 검증된다
+            LocalDate start = today.minusDays(20).plusDays(i / 3 * 3);
+            created.add(schedule(user.getUserId(), "일정 " + i, start, start.plusDays(2)));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void pagesWalkAllSchedulesInKeysetOrderWithTwoStatementsEach() {
+        // 완료 인덱스의 최초 적재 쿼리는 페이지 쿼리 수에서 제외
+        floorCompletionIndex.forUser(created.get(0).getCreatorUserId());
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            long before = stats.getPrepareStatementCount();
+            ScheduleListResponse page = scheduleService.list(Filter.ALL, null, null, cursor, 10, FloorsMode.COUNT);
+            assertEquals(2, stats.getPrepareStatementCount() - before);
+            for (ScheduleResponse item : page.getItems()) {
+                seen.add(item.getScheduleId());
+                assertNull(item.getFloors());
+                assertEquals(FLOORS_PER_SCHEDULE, item.getFloorCount());
+            }
+            cursor = page.getNextCursor();
+            pages++;
+            assertEquals(page.isHasNext(), cursor != null);
+        } while (cursor != null);
+
+        List<Long> expected = created.stream()
+                .sorted(Comparator.comparing(Schedule::getStartDate).thenComparing(Schedule::getScheduleId))
+                .map(Schedule::getScheduleId)
+                .toList();
+        assertEquals(3, pages);
+        assertEquals(expected, seen);
+    }
+
+    @Test
+    void filtersAndFloorModes() {
+        ScheduleListResponse active = scheduleService.list(Filter.ACTIVE, null, null, null, 100, FloorsMode.FULL);
+        for (ScheduleResponse item : active.getItems()) {
+            assertFalse(item.getStartDate().isAfter(today));
+            assertFalse(item.getEndDate().isBefore(today));
+            assertEquals(FLOORS_PER_SCHEDULE, item.getFloors().size());
+        }
+
+        ScheduleListResponse past = scheduleService.list(Filter.PAST, null, null, null, 100, FloorsMode.NONE);
+        assertTrue(past.getItems().stream().allMatch(item -> item.getEndDate().isBefore(today)));
+        assertTrue(past.getItems().stream().allMatch(item -> item.getFloorCount() == null));
+
+        LocalDate from = today.minusDays(10);
+        LocalDate to = today.minusDays(8);
+        ScheduleListResponse overlap = scheduleService.list(Filter.OVERLAP, from, to, null, 100, FloorsMode.NONE);
+        long expected = created.stream()
+                .filter(s -> !s.getStartDate().isAfter(to) && !s.getEndDate().isBefore(from))
+                .count();
+        assertEquals(expected, overlap.getItems().size());
+        assertFalse(overlap.isHasNext());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduleService.list(Filter.OVERLAP, null, null, null, 10, FloorsMode.NONE));
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduleService.list(Filter.ALL, null, null, "not-a-cursor", 10, FloorsMode.NONE));
+    }
+
+    private Schedule schedule(Long userId, String title, LocalDate start, LocalDate end) {
+        Schedule schedule = new Schedule();
+        schedule.setCreatorUserId(userId);
+        schedule.setTitle(title);
+        schedule.setStartDate(start);
+        schedule.setEndDate(end);
+        schedule.setColor("#FF6B6B");
+        for (int i = 0; i < FLOORS_PER_SCHEDULE; i++) {
+            FloorPlan floor = new FloorPlan();
+            floor.setCreatorUserId(userId);
+            floor.setTitle(title + " - " + i);
+            floor.setScheduledDate(start.plusDays(i));
+            schedule.addFloor(floor);
+        }
+        return scheduleRepository.save(schedule);
+    }
+}
@@ -0,0 +1,152 @@
+package floorida.example.floorida.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import floorida.example.floorida.config.jwt.AuthenticatedUser;
+import floorida.example.floorida.dto.FloorResponse;
+import floorida.example.floorida.dto.ScheduleCreateRequest;
+import floorida.example.floorida.dto.ScheduleResponse;
+import floorida.example.floorida.dto.ScheduleUpdateRequest;
+import floorida.example.floorida.entity.User;
+import floorida.example.floorida.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 오늘 할 일 캐시가 반복 조회를 쿼리 없이 처리하고,
+ * 일정 생성/수정/삭제와 Floor 완료 직후에는 바뀐 목록을 돌려주는지 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TodayViewCacheTest {
+
+    private static final int USERS = 50;
+    private static final int POLLS_PER_USER = 20;
+
+    @Autowired
+    private FloorService floorService;
+    @Autowired
+    private ScheduleService scheduleService;
+    @Autowired
+    private TodayViewCache todayViewCache;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserProfileService userProfileService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final LocalDate today = LocalDate.now();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void changesInvalidateTheCachedView() {
+        Long userId = login();
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        ScheduleResponse created = scheduleService.createManual(createRequest("독서", 3));
+        assertEquals(3, floorService.getTodayFloors().size());
+
+        long before = stats.getPrepareStatementCount();
+        for (int i = 0; i < 10; i++) {
+            floorService.getTodayFloors();
+        }
+        assertEquals(0, stats.getPrepareStatementCount() - before);
+
+        floorService.completeFloor(created.getFloors().get(0).getFloorId());
+        assertTrue(floorService.getTodayFloors().get(0).getCompleted());
+
+        ScheduleUpdateRequest update = new ScheduleUpdateRequest();
+        update.setTitle("독서 (수정)");
+        scheduleService.update(created.getScheduleId(), update);
+        assertEquals("독서 (수정)", floorService.getTodayFloors().get(0).getScheduleTitle());
+
+        ScheduleResponse workout = scheduleService.createManual(createRequest("운동", 1));
+        assertEquals(4, floorService.getTodayFloors().size());
+
+        scheduleService.delete(workout.getScheduleId());
+        List<FloorResponse> remaining = floorService.getTodayFloors();
+        assertEquals(3, remaining.size());
+        assertTrue(remaining.stream().allMatch(f -> f.getScheduleTitle().equals("독서 (수정)")));
+
+        // 날짜가 바뀌면 이전 날짜 목록은 쓰지 않는다
+        before = stats.getPrepareStatementCount();
+        assertTrue(todayViewCache.get(userId, today.plusDays(1)).isEmpty());
+        assertEquals(1, stats.getPrepareStatementCount() - before);
+    }
+
+    @Test
+    void pollingWorkloadHitRatioAndMemory() {
+        long hitsBefore = todayViewCache.hitCount();
+        long missesBefore = todayViewCache.missCount();
+
+        for (int u = 0; u < USERS; u++) {
+            login();
+            ScheduleResponse schedule = scheduleService.createManual(createRequest("일정 " + u, 5));
+            for (int i = 0; i < POLLS_PER_USER; i++) {
+                if (i == POLLS_PER_USER / 2) {
+                    floorService.completeFloor(schedule.getFloors().get(0).getFloorId());
+                }
+                floorService.getTodayFloors();
+            }
+        }
+
+        long hits = todayViewCache.hitCount() - hitsBefore;
+        long misses = todayViewCache.missCount() - missesBefore;
+        TodayViewCache.MemoryReport memory = todayViewCache.memoryReport();
+
+        // 사용자마다 최초 조회 1번 + 완료 직후 1번만 DB에서 만든다
+        assertEquals(2L * USERS, misses);
+        assertEquals((long) USERS * POLLS_PER_USER - misses, hits);
+        assertTrue(memory.entries() >= USERS, "cached views: " + memory.entries());
+    }
+
+    private Long login() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setEmail("today-" + suffix + "@floorida.site");
+        user.setUsername("today-" + suffix);
+        user.setPasswordHash("x");
+        user = userRepository.save(user);
+        userProfileService.ensureSignupBonusOnFirstLogin(user);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(user.getUserId(), user.getEmail(), user.getUsername()), null, List.of()));
+        return user.getUserId();
+    }
+
+    private ScheduleCreateRequest createRequest(String title, int floors) {
+        ScheduleCreateRequest req = new ScheduleCreateRequest();
+        req.setTitle(title);
+        req.setStartDate(today);
+        req.setEndDate(today);
+        req.setColor("#FF6B6B");
+        List<ScheduleCreateRequest.FloorCreate> list = new ArrayList<>();
+        for (int i = 0; i < floors; i++) {
+            ScheduleCreateRequest.FloorCreate floor = new ScheduleCreateRequest.FloorCreate();
+            floor.setTitle(title + " 할 일 " + i);
+            floor.setScheduledDate(today);
+            list.add(floor);
+        }
+        req.setFloors(list);
+        return req;
+    }
+}
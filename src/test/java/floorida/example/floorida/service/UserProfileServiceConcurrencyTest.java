@@ -0,0 +1,146 @@
+package floorida.example.floorida.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import floorida.example.floorida.entity.User;
+import floorida.example.floorida.entity.UserProfile;
+import floorida.example.floorida.repository.UserProfileRepository;
+import floorida.example.floorida.repository.UserRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class UserProfileServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private UserProfileService userProfileService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserProfileRepository userProfileRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setEmail("stress-" + suffix + "@floorida.site");
+        user.setUsername("stress-" + suffix);
+        user.setPasswordHash("x");
+        userId = userRepository.save(user).getUserId();
+        userProfileService.ensureSignupBonusOnFirstLogin(userRepository.getReferenceById(userId));
+    }
+
+    @Test
+    void parallelCompletionRewardsAreNotLost() throws Exception {
+        int completions = 2000;
+        runInParallel(completions, () -> userProfileService.applyCompletionRewards(userId, 10, 1));
+
+        UserProfile profile = userProfileRepository.findById(userId).orElseThrow();
+        assertEquals(50 + completions * 10, profile.getPoints());
+        assertEquals(1 + completions, profile.getPersonalLevel());
+    }
+
+    @Test
+    void parallelDeductionsNeverOverdraw() throws Exception {
+        // 50(가입 보너스) + 450 = 500 → 10씩 차감하면 정확히 50번만 성공해야 한다
+        userProfileService.addPoints(userId, 450);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        runInParallel(200, () -> {
+            try {
+                userProfileService.deductPoints(userId, 10);
+                succeeded.incrementAndGet();
+            } catch (IllegalArgumentException notEnough) {
+                // 잔액 부족은 정상적인 거절
+                rejected.incrementAndGet();
+            }
+        });
+
+        assertEquals(50, succeeded.get());
+        assertEquals(150, rejected.get());
+        assertEquals(0, userProfileService.getPoints(userId));
+    }
+
+    @Test
+    void parallelRewardsAndDeductionsLoseNoUpdate() throws Exception {
+        // 차감 200번(각 5) + 보상 200번(각 10)을 섞어도 성공한 차감만큼만 빠지고 음수가 되지 않는다
+        AtomicInteger deducted = new AtomicInteger();
+        runInParallel(400, new Runnable() {
+            private final AtomicInteger calls = new AtomicInteger();
+
+            @Override
+            public void run() {
+                if (calls.getAndIncrement() % 2 == 0) {
+                    userProfileService.applyCompletionRewards(userId, 10, 1);
+                    return;
+                }
+                try {
+                    userProfileService.deductPoints(userId, 5);
+                    deducted.incrementAndGet();
+                } catch (IllegalArgumentException notEnough) {
+                    // 잔액 부족은 정상적인 거절
+                }
+                assertTrue(userProfileService.getPoints(userId) >= 0);
+            }
+        });
+
+        UserProfile profile = userProfileRepository.findById(userId).orElseThrow();
+        assertEquals(50 + 200 * 10 - deducted.get() * 5, profile.getPoints());
+        assertEquals(1 + 200, profile.getPersonalLevel());
+    }
+
+    @Test
+    void profileCanBeReadInsideTransactionWhenWriteBehindIsOff() {
+        // write-behind가 꺼져 있으면 보류 중인 보상이 없으므로 트랜잭션 안에서 조회해도 된다
+        int points = transactionTemplate.execute(status -> {
+            userProfileService.applyCompletionRewards(userId, 10, 1);
+            return userProfileService.getPoints(userId);
+        });
+
+        assertEquals(60, points);
+        assertEquals(2, userProfileService.getProfile(userId).getPersonalLevel());
+    }
+
+    private static void runInParallel(int times, Runnable task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>(times);
+            for (int i = 0; i < times; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}